@@ -0,0 +1,506 @@
+package SourceCode.Engine.BitBoard;
+
+import java.util.Arrays;
+import SourceCode.Engine.Color;
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.BoardUtility;
+import SourceCode.Engine.Board.Tile;
+import SourceCode.Engine.Board.Zobrist;
+import SourceCode.Engine.Pieces.Bishop;
+import SourceCode.Engine.Pieces.King;
+import SourceCode.Engine.Pieces.Knight;
+import SourceCode.Engine.Pieces.Pawn;
+import SourceCode.Engine.Pieces.Piece;
+import SourceCode.Engine.Pieces.Queen;
+import SourceCode.Engine.Pieces.Rook;
+import SourceCode.Engine.Pieces.Piece.PieceType;
+
+/*
+Construct a bitboard position: one long per piece type and color plus the occupancy of each side.
+Piece types are indexed by PieceType.ordinal() and colors by Color.ordinal().
+*/
+public class BitBoard {
+
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    public static final int PAWN = 0;
+    public static final int BISHOP = 1;
+    public static final int KNIGHT = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    public static final int EMPTY = -1;
+    public static final int NO_SQUARE = -1;
+
+    private static final int INITIAL_UNDO_CAPACITY = 256;
+
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    /*Castling rights kept after a move touches a tile, a king or rook leaving home drops its rights */
+    private static final int[] CASTLING_MASK = initCastlingMask();
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final Color[] COLORS = Color.values();
+    /*FEN letters in PieceType order */
+    private static final String FEN_PIECES = "PBNRQK";
+
+    final long[][] pieces;
+    final long[] occupancy;
+    long allOccupancy;
+    /*Piece code (color * 6 + type) on every tile, or EMPTY */
+    final int[] mailbox;
+    int sideToMove;
+    int castlingRights;
+    int enPassantSquare;
+    /*Zobrist key, kept up to date by every piece added or removed and by makeMove */
+    long zobristKey;
+    /*Zobrist key of the pawns alone, for the pawn structure hash */
+    long pawnKey;
+    /*Per side sums of the piece values and piece-square bonuses, and the game phase, kept up to date like the key */
+    final int[] material;
+    final int[] middlegameScore;
+    final int[] endgameScore;
+    int phase;
+
+    /*Undo records of the moves made so far: captured piece, castling rights and en passant square */
+    private int[] undoStack;
+    /*Key of the position before each move made, unmakeMove restores it instead of xoring everything back */
+    private long[] keyHistory;
+    private int undoCount;
+
+    /*Scratch move buffer for the generator's non-recursive helpers */
+    final MoveList scratchMoves;
+
+    public BitBoard() {
+        this.pieces = new long[2][6];
+        this.occupancy = new long[2];
+        this.mailbox = new int[BoardUtility.Total_Tiles];
+        Arrays.fill(this.mailbox, EMPTY);
+        this.material = new int[2];
+        this.middlegameScore = new int[2];
+        this.endgameScore = new int[2];
+        this.sideToMove = WHITE;
+        this.enPassantSquare = NO_SQUARE;
+        this.undoStack = new int[INITIAL_UNDO_CAPACITY];
+        this.keyHistory = new long[INITIAL_UNDO_CAPACITY];
+        this.scratchMoves = new MoveList();
+    }
+
+    private static int[] initCastlingMask() {
+        final int[] mask = new int[BoardUtility.Total_Tiles];
+        Arrays.fill(mask, WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        mask[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        mask[63] &= ~WHITE_KING_SIDE;
+        mask[56] &= ~WHITE_QUEEN_SIDE;
+        mask[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        mask[7] &= ~BLACK_KING_SIDE;
+        mask[0] &= ~BLACK_QUEEN_SIDE;
+        return mask;
+    }
+
+    public static BitBoard createStandardBitBoard() {
+        return fromBoard(Board.createStandardBoard());
+    }
+
+    /*Build a bitboard position from an immutable Board */
+    public static BitBoard fromBoard(final Board board) {
+        return fromBoard(board, board.currentPlayer().getPlayerColor());
+    }
+
+    /*Build the position as if the given side were to move, the en passant square only stays for the real side to move */
+    public static BitBoard fromBoard(final Board board, final Color sideToMove) {
+        final BitBoard position = new BitBoard();
+
+        for (int i = 0; i < BoardUtility.Total_Tiles; ++i) {
+            final Tile tile = board.getTile(i);
+            if (tile.IsOccupiled()) {
+                final Piece piece = tile.getPiece();
+                position.addPiece(piece.getPieceColor().ordinal(), piece.getPieceType().ordinal(), i);
+            }
+        }
+
+        position.sideToMove = sideToMove.ordinal();
+        position.castlingRights = board.getCastlingRights();
+
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn != null && enPassantPawn.getPieceColor() != sideToMove) {
+            position.enPassantSquare = enPassantPawn.getPiecePostition() - enPassantPawn.getPieceColor().getDirection() * 8;
+        }
+
+        position.zobristKey = position.calculateZobristKey();
+        return position;
+    }
+
+    /*Build a position from Forsyth-Edwards Notation, the move counters are ignored */
+    public static BitBoard fromFen(final String fen) {
+        final String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+
+        final BitBoard position = new BitBoard();
+        int square = 0;
+        for (final char symbol: fields[0].toCharArray()) {
+            if (symbol == '/') continue;
+            if (Character.isDigit(symbol)) {
+                square += symbol - '0';
+                continue;
+            }
+            final int type = FEN_PIECES.indexOf(Character.toUpperCase(symbol));
+            if (type < 0 || square >= BoardUtility.Total_Tiles) {
+                throw new IllegalArgumentException("Invalid FEN: " + fen);
+            }
+            position.addPiece(Character.isUpperCase(symbol) ? WHITE : BLACK, type, square++);
+        }
+
+        position.sideToMove = fields[1].equals("b") ? BLACK : WHITE;
+        for (final char right: fields[2].toCharArray()) {
+            switch (right) {
+                case 'K': position.castlingRights |= WHITE_KING_SIDE; break;
+                case 'Q': position.castlingRights |= WHITE_QUEEN_SIDE; break;
+                case 'k': position.castlingRights |= BLACK_KING_SIDE; break;
+                case 'q': position.castlingRights |= BLACK_QUEEN_SIDE; break;
+                default: break;
+            }
+        }
+        if (!fields[3].equals("-")) {
+            position.enPassantSquare = (fields[3].charAt(0) - 'a') + ('8' - fields[3].charAt(1)) * 8;
+        }
+
+        position.zobristKey = position.calculateZobristKey();
+        return position;
+    }
+
+    /*An independent copy of the position, without the move history */
+    public BitBoard copy() {
+        final BitBoard position = new BitBoard();
+        for (int color = 0; color < 2; ++color) {
+            System.arraycopy(this.pieces[color], 0, position.pieces[color], 0, 6);
+        }
+        System.arraycopy(this.occupancy, 0, position.occupancy, 0, 2);
+        System.arraycopy(this.mailbox, 0, position.mailbox, 0, BoardUtility.Total_Tiles);
+        position.allOccupancy = this.allOccupancy;
+        position.sideToMove = this.sideToMove;
+        position.castlingRights = this.castlingRights;
+        position.enPassantSquare = this.enPassantSquare;
+        position.zobristKey = this.zobristKey;
+        position.pawnKey = this.pawnKey;
+        System.arraycopy(this.material, 0, position.material, 0, 2);
+        System.arraycopy(this.middlegameScore, 0, position.middlegameScore, 0, 2);
+        System.arraycopy(this.endgameScore, 0, position.endgameScore, 0, 2);
+        position.phase = this.phase;
+        return position;
+    }
+
+    /*Castling rights left once a move leaves one tile and lands on another */
+    public static int updateCastlingRights(final int castlingRights, final int from, final int to) {
+        return castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to];
+    }
+
+    /*Key of the whole position from scratch */
+    private long calculateZobristKey() {
+        long key = 0L;
+        for (int square = 0; square < BoardUtility.Total_Tiles; ++square) {
+            if (this.mailbox[square] != EMPTY) {
+                key ^= Zobrist.pieceKey(this.mailbox[square] / 6, this.mailbox[square] % 6, square);
+            }
+        }
+        return key ^ Zobrist.castlingKey(this.castlingRights) ^ Zobrist.enPassantKey(this.enPassantSquare) ^
+               (this.sideToMove == BLACK ? Zobrist.sideKey() : 0L);
+    }
+
+    /*Build the equivalent immutable Board */
+    public Board toBoard() {
+        final Board.Builder builder = new Board.Builder();
+
+        for (int square = 0; square < BoardUtility.Total_Tiles; ++square) {
+            if (this.mailbox[square] != EMPTY) {
+                builder.setPiece(createPiece(this.mailbox[square] / 6, this.mailbox[square] % 6, square));
+            }
+        }
+
+        if (this.enPassantSquare != NO_SQUARE) {
+            final int pawnColor = this.sideToMove ^ 1;
+            final int pawnSquare = this.enPassantSquare + COLORS[pawnColor].getDirection() * 8;
+            builder.setEnPassantPawn((Pawn) createPiece(pawnColor, PAWN, pawnSquare));
+        }
+
+        builder.setMoveMaker(COLORS[this.sideToMove]);
+        return builder.build();
+    }
+
+    private Piece createPiece(final int color, final int type, final int square) {
+        final Color pieceColor = COLORS[color];
+        switch (PIECE_TYPES[type]) {
+            case Pawn:
+                return new Pawn(square, pieceColor, pieceColor.isWhite() ? BoardUtility.Seventh_Row[square]
+                                                                         : BoardUtility.Second_Row[square]);
+            case Bishop:
+                return new Bishop(square, pieceColor, false);
+            case Knight:
+                return new Knight(square, pieceColor, false);
+            case Rook:
+                return new Rook(square, pieceColor, (this.castlingRights & rookCastlingRight(square)) != 0);
+            case Queen:
+                return new Queen(square, pieceColor, false);
+            default:
+                return new King(square, pieceColor, (this.castlingRights & (color == WHITE ? 3 : 12)) != 0);
+        }
+    }
+
+    private static int rookCastlingRight(final int square) {
+        switch (square) {
+            case 63: return WHITE_KING_SIDE;
+            case 56: return WHITE_QUEEN_SIDE;
+            case 7: return BLACK_KING_SIDE;
+            case 0: return BLACK_QUEEN_SIDE;
+            default: return 0;
+        }
+    }
+
+    void addPiece(final int color, final int type, final int square) {
+        final long bit = 1L << square;
+        this.pieces[color][type] |= bit;
+        this.occupancy[color] |= bit;
+        this.allOccupancy |= bit;
+        this.mailbox[square] = color * 6 + type;
+        this.zobristKey ^= Zobrist.pieceKey(color, type, square);
+        if (type == PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(color, type, square);
+        }
+        this.material[color] += PieceSquareTables.MATERIAL[type];
+        this.middlegameScore[color] += PieceSquareTables.MIDDLEGAME[color][type][square];
+        this.endgameScore[color] += PieceSquareTables.ENDGAME[color][type][square];
+        this.phase += PieceSquareTables.PHASE_WEIGHTS[type];
+    }
+
+    void removePiece(final int color, final int type, final int square) {
+        final long bit = 1L << square;
+        this.pieces[color][type] &= ~bit;
+        this.occupancy[color] &= ~bit;
+        this.allOccupancy &= ~bit;
+        this.mailbox[square] = EMPTY;
+        this.zobristKey ^= Zobrist.pieceKey(color, type, square);
+        if (type == PAWN) {
+            this.pawnKey ^= Zobrist.pieceKey(color, type, square);
+        }
+        this.material[color] -= PieceSquareTables.MATERIAL[type];
+        this.middlegameScore[color] -= PieceSquareTables.MIDDLEGAME[color][type][square];
+        this.endgameScore[color] -= PieceSquareTables.ENDGAME[color][type][square];
+        this.phase -= PieceSquareTables.PHASE_WEIGHTS[type];
+    }
+
+    /*Play a move generated for this position in place, remembering what unmakeMove needs */
+    public void makeMove(final int move) {
+        final int from = BitMove.getFrom(move);
+        final int to = BitMove.getTo(move);
+        final int flag = BitMove.getFlag(move);
+        final int us = this.sideToMove;
+        final int them = us ^ 1;
+        final int movedType = this.mailbox[from] % 6;
+        final int capturedSquare = flag == BitMove.EN_PASSANT ? to + (us == WHITE ? 8 : -8) : to;
+        final int captured = this.mailbox[capturedSquare];
+
+        if (this.undoCount == this.undoStack.length) {
+            this.undoStack = Arrays.copyOf(this.undoStack, this.undoStack.length * 2);
+            this.keyHistory = Arrays.copyOf(this.keyHistory, this.keyHistory.length * 2);
+        }
+        this.keyHistory[this.undoCount] = this.zobristKey;
+        this.undoStack[this.undoCount++] = (captured + 1) | (this.castlingRights << 4) | ((this.enPassantSquare + 1) << 8);
+
+        if (captured != EMPTY) {
+            removePiece(them, captured % 6, capturedSquare);
+        }
+        removePiece(us, movedType, from);
+        addPiece(us, BitMove.isPromotion(move) ? BitMove.getPromotionType(move) : movedType, to);
+
+        if (flag == BitMove.KING_CASTLE) {
+            removePiece(us, ROOK, to + 1);
+            addPiece(us, ROOK, to - 1);
+        } else if (flag == BitMove.QUEEN_CASTLE) {
+            removePiece(us, ROOK, to - 2);
+            addPiece(us, ROOK, to + 1);
+        }
+
+        final int enPassantSquare = flag == BitMove.DOUBLE_PAWN_PUSH ? (from + to) >>> 1 : NO_SQUARE;
+        final int castlingRights = this.castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to];
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(enPassantSquare) ^
+                           Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(castlingRights) ^ Zobrist.sideKey();
+        this.enPassantSquare = enPassantSquare;
+        this.castlingRights = castlingRights;
+        this.sideToMove = them;
+    }
+
+    /*Take back the last move made with makeMove */
+    public void unmakeMove(final int move) {
+        final int from = BitMove.getFrom(move);
+        final int to = BitMove.getTo(move);
+        final int flag = BitMove.getFlag(move);
+        final int them = this.sideToMove;
+        final int us = them ^ 1;
+        final int undo = this.undoStack[--this.undoCount];
+        final int captured = (undo & 0xF) - 1;
+
+        this.sideToMove = us;
+        this.castlingRights = (undo >>> 4) & 0xF;
+        this.enPassantSquare = (undo >>> 8) - 1;
+
+        if (flag == BitMove.KING_CASTLE) {
+            removePiece(us, ROOK, to - 1);
+            addPiece(us, ROOK, to + 1);
+        } else if (flag == BitMove.QUEEN_CASTLE) {
+            removePiece(us, ROOK, to + 1);
+            addPiece(us, ROOK, to - 2);
+        }
+
+        final int placedType = this.mailbox[to] % 6;
+        removePiece(us, placedType, to);
+        addPiece(us, BitMove.isPromotion(move) ? PAWN : placedType, from);
+
+        if (captured != EMPTY) {
+            addPiece(them, captured % 6, flag == BitMove.EN_PASSANT ? to + (us == WHITE ? 8 : -8) : to);
+        }
+
+        this.zobristKey = this.keyHistory[this.undoCount];
+    }
+
+    /*Pass the turn without moving, for null move pruning; the en passant chance is lost with it */
+    public void makeNullMove() {
+        if (this.undoCount == this.undoStack.length) {
+            this.undoStack = Arrays.copyOf(this.undoStack, this.undoStack.length * 2);
+            this.keyHistory = Arrays.copyOf(this.keyHistory, this.keyHistory.length * 2);
+        }
+        this.keyHistory[this.undoCount] = this.zobristKey;
+        this.undoStack[this.undoCount++] = (this.castlingRights << 4) | ((this.enPassantSquare + 1) << 8);
+
+        this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.sideKey();
+        this.enPassantSquare = NO_SQUARE;
+        this.sideToMove ^= 1;
+    }
+
+    public void unmakeNullMove() {
+        final int undo = this.undoStack[--this.undoCount];
+        this.sideToMove ^= 1;
+        this.enPassantSquare = (undo >>> 8) - 1;
+        this.zobristKey = this.keyHistory[this.undoCount];
+    }
+
+    /*Anything besides pawns and the king, without it passing may be the best move and null moves mislead */
+    public boolean hasNonPawnMaterial(final int color) {
+        return (this.occupancy[color] & ~(this.pieces[color][PAWN] | this.pieces[color][KING])) != 0;
+    }
+
+    /*After makeMove: check if the move left the mover's own king attacked */
+    public boolean leftKingInCheck() {
+        return isSquareAttacked(getKingSquare(this.sideToMove ^ 1), this.sideToMove);
+    }
+
+    public long getPieces(final int color, final int type) {
+        return this.pieces[color][type];
+    }
+
+    public long getOccupancy(final int color) {
+        return this.occupancy[color];
+    }
+
+    public long getAllOccupancy() {
+        return this.allOccupancy;
+    }
+
+    /*Piece code on a tile, or EMPTY */
+    public int getPieceCode(final int square) {
+        return this.mailbox[square];
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /*Key of the pawn placement only, every position with the same pawns shares it */
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    /*Sum of the piece values of a side */
+    public int getMaterial(final int color) {
+        return this.material[color];
+    }
+
+    /*Sum of the middlegame piece-square bonuses of a side */
+    public int getMiddlegameScore(final int color) {
+        return this.middlegameScore[color];
+    }
+
+    public int getEndgameScore(final int color) {
+        return this.endgameScore[color];
+    }
+
+    /*Game phase, PieceSquareTables.TOTAL_PHASE with every piece on the board and 0 with only pawns and kings */
+    public int getPhase() {
+        return this.phase;
+    }
+
+    public int getSideToMove() {
+        return this.sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public int getKingSquare(final int color) {
+        return Long.numberOfTrailingZeros(this.pieces[color][KING]);
+    }
+
+    /*Pieces of the given color attacking the tile when the board holds the given occupancy */
+    public long attackersTo(final int square, final int byColor, final long occupancy) {
+        final long[] attacker = this.pieces[byColor];
+        return (BitBoardUtility.pawnAttacks(byColor ^ 1, square) & attacker[PAWN]) |
+               (BitBoardUtility.knightAttacks(square) & attacker[KNIGHT]) |
+               (BitBoardUtility.kingAttacks(square) & attacker[KING]) |
+               (BitBoardUtility.bishopAttacks(square, occupancy) & (attacker[BISHOP] | attacker[QUEEN])) |
+               (BitBoardUtility.rookAttacks(square, occupancy) & (attacker[ROOK] | attacker[QUEEN]));
+    }
+
+    /*Check if any piece of the given color attacks the tile */
+    public boolean isSquareAttacked(final int square, final int byColor) {
+        final long[] attacker = this.pieces[byColor];
+        if ((BitBoardUtility.pawnAttacks(byColor ^ 1, square) & attacker[PAWN]) != 0) return true;
+        if ((BitBoardUtility.knightAttacks(square) & attacker[KNIGHT]) != 0) return true;
+        if ((BitBoardUtility.kingAttacks(square) & attacker[KING]) != 0) return true;
+        if ((BitBoardUtility.bishopAttacks(square, this.allOccupancy) & (attacker[BISHOP] | attacker[QUEEN])) != 0) return true;
+        return (BitBoardUtility.rookAttacks(square, this.allOccupancy) & (attacker[ROOK] | attacker[QUEEN])) != 0;
+    }
+
+    public boolean isInCheck() {
+        return isSquareAttacked(getKingSquare(this.sideToMove), this.sideToMove ^ 1);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < BoardUtility.Total_Tiles; ++i) {
+            final int code = this.mailbox[i];
+            final String tileText = code == EMPTY ? "-" : code / 6 == WHITE ? PIECE_TYPES[code % 6].toString()
+                                                                             : PIECE_TYPES[code % 6].toString().toLowerCase();
+            builder.append(String.format("%3s", tileText));
+
+            if ((i + 1) % BoardUtility.Tolal_Tile_Per_Row == 0) {
+                builder.append("\n");
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,112 @@
+package SourceCode.Engine.BitBoard;
+
+/*
+Bit masks and attack helpers for the bitboard position.
+Bit i of a bitboard is tile i of the Board, so bit 0 is a8 and bit 63 is h1.
+*/
+public class BitBoardUtility {
+
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_B = FILE_A << 1;
+    public static final long FILE_G = FILE_A << 6;
+    public static final long FILE_H = FILE_A << 7;
+
+    public static final long RANK_8 = 0xFFL;
+    public static final long RANK_7 = RANK_8 << 8;
+    public static final long RANK_2 = RANK_8 << 48;
+    public static final long RANK_1 = RANK_8 << 56;
+
+    /*Per-square target tables, built once at class load */
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    private static final long[][] PAWN_PUSHES = new long[2][64];
+    private static final long[][] PAWN_JUMPS = new long[2][64];
+
+    /*Tiles strictly between two aligned tiles, and the whole line through them */
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    static {
+        for (int square = 0; square < 64; ++square) {
+            final long bit = 1L << square;
+            KNIGHT_ATTACKS[square] = ((bit & ~FILE_A) >>> 17) | ((bit & ~FILE_H) >>> 15) |
+                                     ((bit & ~(FILE_A | FILE_B)) >>> 10) | ((bit & ~(FILE_G | FILE_H)) >>> 6) |
+                                     ((bit & ~(FILE_A | FILE_B)) << 6) | ((bit & ~(FILE_G | FILE_H)) << 10) |
+                                     ((bit & ~FILE_A) << 15) | ((bit & ~FILE_H) << 17);
+            KING_ATTACKS[square] = (bit >>> 8) | (bit << 8) |
+                                   ((bit & ~FILE_A) >>> 9) | ((bit & ~FILE_A) >>> 1) | ((bit & ~FILE_A) << 7) |
+                                   ((bit & ~FILE_H) >>> 7) | ((bit & ~FILE_H) << 1) | ((bit & ~FILE_H) << 9);
+            PAWN_ATTACKS[BitBoard.WHITE][square] = ((bit & ~FILE_A) >>> 9) | ((bit & ~FILE_H) >>> 7);
+            PAWN_ATTACKS[BitBoard.BLACK][square] = ((bit & ~FILE_A) << 7) | ((bit & ~FILE_H) << 9);
+            PAWN_PUSHES[BitBoard.WHITE][square] = bit >>> 8;
+            PAWN_PUSHES[BitBoard.BLACK][square] = bit << 8;
+            PAWN_JUMPS[BitBoard.WHITE][square] = (bit & RANK_2) >>> 16;
+            PAWN_JUMPS[BitBoard.BLACK][square] = (bit & RANK_7) << 16;
+        }
+
+        for (int from = 0; from < 64; ++from) {
+            for (int to = 0; to < 64; ++to) {
+                if (from == to) continue;
+                final long ends = (1L << from) | (1L << to);
+                if ((MagicBitBoards.rookAttacks(from, 0L) & (1L << to)) != 0) {
+                    BETWEEN[from][to] = MagicBitBoards.rookAttacks(from, 1L << to) & MagicBitBoards.rookAttacks(to, 1L << from);
+                    LINE[from][to] = (MagicBitBoards.rookAttacks(from, 0L) & MagicBitBoards.rookAttacks(to, 0L)) | ends;
+                } else if ((MagicBitBoards.bishopAttacks(from, 0L) & (1L << to)) != 0) {
+                    BETWEEN[from][to] = MagicBitBoards.bishopAttacks(from, 1L << to) & MagicBitBoards.bishopAttacks(to, 1L << from);
+                    LINE[from][to] = (MagicBitBoards.bishopAttacks(from, 0L) & MagicBitBoards.bishopAttacks(to, 0L)) | ends;
+                }
+            }
+        }
+    }
+
+    public static long squareMask(final int square) {
+        return 1L << square;
+    }
+
+    public static long rookAttacks(final int square, final long occupancy) {
+        return MagicBitBoards.rookAttacks(square, occupancy);
+    }
+
+    public static long bishopAttacks(final int square, final long occupancy) {
+        return MagicBitBoards.bishopAttacks(square, occupancy);
+    }
+
+    public static long queenAttacks(final int square, final long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    public static long knightAttacks(final int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(final int square) {
+        return KING_ATTACKS[square];
+    }
+
+    /*Tiles a pawn of the given color standing on the square attacks */
+    public static long pawnAttacks(final int color, final int square) {
+        return PAWN_ATTACKS[color][square];
+    }
+
+    /*Tile one step in front of a pawn, empty for pawns on the last row */
+    public static long pawnPushes(final int color, final int square) {
+        return PAWN_PUSHES[color][square];
+    }
+
+    /*Tile two steps in front of a pawn still on its starting row */
+    public static long pawnJumps(final int color, final int square) {
+        return PAWN_JUMPS[color][square];
+    }
+
+    /*Tiles strictly between two tiles on a common rank, file or diagonal, empty otherwise */
+    public static long between(final int from, final int to) {
+        return BETWEEN[from][to];
+    }
+
+    /*The full rank, file or diagonal through two tiles, empty if they are not aligned */
+    public static long line(final int from, final int to) {
+        return LINE[from][to];
+    }
+
+}
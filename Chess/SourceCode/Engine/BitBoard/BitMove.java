@@ -0,0 +1,105 @@
+package SourceCode.Engine.BitBoard;
+
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.BoardUtility;
+import SourceCode.Engine.Board.Move;
+
+/*
+A move of the bitboard generator packed into the low 16 bits of an int, so it also fits a short:
+    bits  0 -  5  source tile
+    bits  6 - 11  destination tile
+    bits 12 - 15  move flag, bit 15 marks a promotion, bit 14 a capture and
+                  bits 12 - 13 the promotion piece (knight, bishop, rook, queen)
+*/
+public class BitMove {
+
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int KNIGHT_PROMOTION = 8;
+    public static final int BISHOP_PROMOTION = 9;
+    public static final int ROOK_PROMOTION = 10;
+    public static final int QUEEN_PROMOTION = 11;
+    public static final int KNIGHT_PROMOTION_CAPTURE = 12;
+    public static final int BISHOP_PROMOTION_CAPTURE = 13;
+    public static final int ROOK_PROMOTION_CAPTURE = 14;
+    public static final int QUEEN_PROMOTION_CAPTURE = 15;
+
+    private static final int[] PROMOTION_TYPES = {BitBoard.KNIGHT, BitBoard.BISHOP, BitBoard.ROOK, BitBoard.QUEEN};
+    private static final String[] PROMOTION_NAMES = {"n", "b", "r", "q"};
+
+    public static final int NO_MOVE = 0;
+
+    private BitMove() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static int create(final int from, final int to, final int flag) {
+        return from | (to << 6) | (flag << 12);
+    }
+
+    public static int getFrom(final int move) {
+        return move & 0x3F;
+    }
+
+    public static int getTo(final int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int getFlag(final int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    public static boolean isCapture(final int move) {
+        return (getFlag(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlag(move) & 8) != 0;
+    }
+
+    /*Piece type a promotion turns the pawn into */
+    public static int getPromotionType(final int move) {
+        return PROMOTION_TYPES[getFlag(move) & 3];
+    }
+
+    public static boolean isCastle(final int move) {
+        final int flag = getFlag(move);
+        return flag == KING_CASTLE || flag == QUEEN_CASTLE;
+    }
+
+    public static String toString(final int move) {
+        return BoardUtility.getPositionAtCoordinate(getFrom(move)) + BoardUtility.getPositionAtCoordinate(getTo(move)) +
+               (isPromotion(move) ? PROMOTION_NAMES[getFlag(move) & 3] : "");
+    }
+
+    /*The Move of the immutable Board with the same source and destination, the Board only promotes to a queen */
+    public static Move toMove(final Board board, final int move) {
+        return Move.MoveFactory.createMove(board, getFrom(move), getTo(move));
+    }
+
+    /*Pack a Move of the immutable Board */
+    public static int fromMove(final Move move) {
+        final int from = move.getCurrentCoordinate();
+        final int to = move.getDestinationCoordinate();
+        final int flag;
+
+        if (move.isCastlingMove()) {
+            flag = to > from ? KING_CASTLE : QUEEN_CASTLE;
+        } else if (move instanceof Move.PawnPromotion) {
+            flag = move.isAttack() ? QUEEN_PROMOTION_CAPTURE : QUEEN_PROMOTION;
+        } else if (move instanceof Move.PawnEnPassantAttackMove) {
+            flag = EN_PASSANT;
+        } else if (move instanceof Move.PawnJump) {
+            flag = DOUBLE_PAWN_PUSH;
+        } else {
+            flag = move.isAttack() ? CAPTURE : QUIET;
+        }
+
+        return create(from, to, flag);
+    }
+
+}
@@ -0,0 +1,160 @@
+package SourceCode.Engine.BitBoard;
+
+import static SourceCode.Engine.BitBoard.BitBoard.*;
+
+/*
+Generate the moves of the side to move on a bitboard position.
+The moves are the same as the ones Piece.LegalMove(Board) and the castle moves of the Player produce:
+pseudo-legal moves that may still leave the own king in check, with pawns promoting to a queen.
+*/
+public class BitMoveGenerator {
+
+    private BitMoveGenerator() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    /*Fill the list with the moves of the side to move */
+    public static void generateMoves(final BitBoard position, final MoveList moves) {
+        moves.size = generateMoves(position, position.sideToMove, moves.moves);
+    }
+
+    /*Fill the list with the moves of either side, en passant is only possible for the side to move */
+    public static void generateMoves(final BitBoard position, final int color, final MoveList moves) {
+        moves.size = generateMoves(position, color, moves.moves);
+    }
+
+    private static int generateMoves(final BitBoard position, final int us, final int[] moves) {
+        final int them = us ^ 1;
+        final long own = position.occupancy[us];
+        final long enemy = position.occupancy[them];
+        final long all = position.allOccupancy;
+        int count = 0;
+
+        count = generatePawnMoves(position, us, moves, count);
+
+        long knights = position.pieces[us][KNIGHT];
+        while (knights != 0) {
+            final int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.knightAttacks(from) & ~own, enemy);
+        }
+
+        long bishops = position.pieces[us][BISHOP];
+        while (bishops != 0) {
+            final int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.bishopAttacks(from, all) & ~own, enemy);
+        }
+
+        long rooks = position.pieces[us][ROOK];
+        while (rooks != 0) {
+            final int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.rookAttacks(from, all) & ~own, enemy);
+        }
+
+        long queens = position.pieces[us][QUEEN];
+        while (queens != 0) {
+            final int from = Long.numberOfTrailingZeros(queens);
+            queens &= queens - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.queenAttacks(from, all) & ~own, enemy);
+        }
+
+        final long king = position.pieces[us][KING];
+        if (king != 0) {
+            final int from = Long.numberOfTrailingZeros(king);
+            count = addMoves(moves, count, from, BitBoardUtility.kingAttacks(from) & ~own, enemy);
+            count = generateCastleMoves(position, us, moves, count);
+        }
+
+        return count;
+    }
+
+    private static int addMoves(final int[] moves, int count, final int from, long targets, final long enemy) {
+        while (targets != 0) {
+            final int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves[count++] = BitMove.create(from, to, (enemy & (1L << to)) != 0 ? BitMove.CAPTURE : BitMove.QUIET);
+        }
+        return count;
+    }
+
+    private static int generatePawnMoves(final BitBoard position, final int us, final int[] moves, int count) {
+        final long enemy = position.occupancy[us ^ 1];
+        final long empty = ~position.allOccupancy;
+        final long promotionRank = us == WHITE ? BitBoardUtility.RANK_8 : BitBoardUtility.RANK_1;
+        final long enPassant = position.enPassantSquare == NO_SQUARE || us != position.sideToMove ? 0L
+                                                                                                   : 1L << position.enPassantSquare;
+
+        long pawns = position.pieces[us][PAWN];
+        while (pawns != 0) {
+            final int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+
+            final long single = BitBoardUtility.pawnPushes(us, from) & empty;
+            if (single != 0) {
+                final int to = Long.numberOfTrailingZeros(single);
+                if ((promotionRank & single) != 0) {
+                    moves[count++] = BitMove.create(from, to, BitMove.QUEEN_PROMOTION);
+                } else {
+                    moves[count++] = BitMove.create(from, to, BitMove.QUIET);
+                    final long jump = BitBoardUtility.pawnJumps(us, from) & empty;
+                    if (jump != 0) {
+                        moves[count++] = BitMove.create(from, Long.numberOfTrailingZeros(jump), BitMove.DOUBLE_PAWN_PUSH);
+                    }
+                }
+            }
+
+            final long attacks = BitBoardUtility.pawnAttacks(us, from);
+            long captures = attacks & enemy;
+            while (captures != 0) {
+                final int to = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                moves[count++] = BitMove.create(from, to, (promotionRank & (1L << to)) != 0 ? BitMove.QUEEN_PROMOTION_CAPTURE
+                                                                                            : BitMove.CAPTURE);
+            }
+
+            if ((attacks & enPassant) != 0) {
+                moves[count++] = BitMove.create(from, position.enPassantSquare, BitMove.EN_PASSANT);
+            }
+        }
+
+        return count;
+    }
+
+    /*A castle needs the rights, empty tiles between king and rook, and no attack on the king or the tiles it crosses */
+    private static int generateCastleMoves(final BitBoard position, final int us, final int[] moves, int count) {
+        final int them = us ^ 1;
+        final long all = position.allOccupancy;
+        final int kingSideRight = us == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSideRight = us == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        final int kingSquare = us == WHITE ? 60 : 4;
+
+        if ((position.castlingRights & (kingSideRight | queenSideRight)) == 0 ||
+            position.isSquareAttacked(kingSquare, them)) {
+            return count;
+        }
+
+        if ((position.castlingRights & kingSideRight) != 0 &&
+            (all & (3L << (kingSquare + 1))) == 0 &&
+            !position.isSquareAttacked(kingSquare + 1, them) &&
+            !position.isSquareAttacked(kingSquare + 2, them)) {
+            moves[count++] = BitMove.create(kingSquare, kingSquare + 2, BitMove.KING_CASTLE);
+        }
+
+        if ((position.castlingRights & queenSideRight) != 0 &&
+            (all & (7L << (kingSquare - 3))) == 0 &&
+            !position.isSquareAttacked(kingSquare - 1, them) &&
+            !position.isSquareAttacked(kingSquare - 2, them)) {
+            moves[count++] = BitMove.create(kingSquare, kingSquare - 2, BitMove.QUEEN_CASTLE);
+        }
+
+        return count;
+    }
+
+    /*Number of moves of either side, the mobility of the Player on the Board */
+    public static int countMoves(final BitBoard position, final int color) {
+        return generateMoves(position, color, position.scratchMoves.moves);
+    }
+
+}
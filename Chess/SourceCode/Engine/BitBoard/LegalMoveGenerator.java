@@ -0,0 +1,242 @@
+package SourceCode.Engine.BitBoard;
+
+import static SourceCode.Engine.BitBoard.BitBoard.*;
+
+/*
+Generate only the legal moves of the side to move, without playing any of them. The search promotes
+to a queen only, like the Board it plays its moves on; the full move list with underpromotions is
+there for perft, whose published counts include them.
+Checkers and pinned pieces are found up front: in check every non-king move must land on the
+check mask (the checker or a tile between it and the king), and a pinned piece may only move
+along the line through its king and the pinning slider.
+*/
+public class LegalMoveGenerator {
+
+    private LegalMoveGenerator() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    /*Fill the list with the legal moves of the side to move */
+    public static void generateMoves(final BitBoard position, final MoveList moves) {
+        moves.size = generateMoves(position, moves.moves, false, false, false);
+    }
+
+    /*Fill the list with the legal moves of the side to move, promoting to a knight, bishop and rook as well */
+    public static void generateAllMoves(final BitBoard position, final MoveList moves) {
+        moves.size = generateMoves(position, moves.moves, false, false, true);
+    }
+
+    /*Fill the list with the legal captures, en passant captures and promotions of the side to move */
+    public static void generateTacticalMoves(final BitBoard position, final MoveList moves) {
+        moves.size = generateMoves(position, moves.moves, true, false, false);
+    }
+
+    /*With firstOnly set it stops after the first group of pieces that has a move, the count is then not the full one */
+    private static int generateMoves(final BitBoard position, final int[] moves, final boolean tacticalOnly, final boolean firstOnly,
+                                     final boolean underpromotions) {
+        final int us = position.sideToMove;
+        final int them = us ^ 1;
+        final long own = position.occupancy[us];
+        final long enemy = position.occupancy[them];
+        final long all = position.allOccupancy;
+        final int kingSquare = position.getKingSquare(us);
+        final long checkers = position.attackersTo(kingSquare, them, all);
+        /*Tiles a piece move may land on, only enemy pieces when just the tactical moves are wanted */
+        final long targets = tacticalOnly ? enemy : ~own;
+        int count = 0;
+
+        /*The king may go anywhere not attacked once it no longer blocks the sliders behind it */
+        final long kingless = all & ~(1L << kingSquare);
+        long kingTargets = BitBoardUtility.kingAttacks(kingSquare) & targets;
+        while (kingTargets != 0) {
+            final int to = Long.numberOfTrailingZeros(kingTargets);
+            kingTargets &= kingTargets - 1;
+            if (position.attackersTo(to, them, kingless) == 0) {
+                moves[count++] = BitMove.create(kingSquare, to, (enemy & (1L << to)) != 0 ? BitMove.CAPTURE : BitMove.QUIET);
+            }
+        }
+
+        /*In double check only the king can move */
+        if (Long.bitCount(checkers) > 1 || (firstOnly && count > 0)) return count;
+
+        final long checkMask = checkers == 0 ? -1L
+                                             : checkers | BitBoardUtility.between(kingSquare, Long.numberOfTrailingZeros(checkers));
+        final long pinned = calculatePinned(position, us, kingSquare);
+
+        count = generatePawnMoves(position, moves, count, kingSquare, checkMask, pinned, tacticalOnly, underpromotions);
+        if (firstOnly && count > 0) return count;
+
+        long knights = position.pieces[us][KNIGHT] & ~pinned;
+        while (knights != 0) {
+            final int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.knightAttacks(from) & targets & checkMask, enemy);
+        }
+        if (firstOnly && count > 0) return count;
+
+        long diagonals = position.pieces[us][BISHOP] | position.pieces[us][QUEEN];
+        while (diagonals != 0) {
+            final int from = Long.numberOfTrailingZeros(diagonals);
+            diagonals &= diagonals - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.bishopAttacks(from, all) & targets & checkMask &
+                                                 pinRay(pinned, kingSquare, from), enemy);
+        }
+        if (firstOnly && count > 0) return count;
+
+        long straights = position.pieces[us][ROOK] | position.pieces[us][QUEEN];
+        while (straights != 0) {
+            final int from = Long.numberOfTrailingZeros(straights);
+            straights &= straights - 1;
+            count = addMoves(moves, count, from, BitBoardUtility.rookAttacks(from, all) & targets & checkMask &
+                                                 pinRay(pinned, kingSquare, from), enemy);
+        }
+
+        if (checkers == 0 && !tacticalOnly) {
+            count = generateCastleMoves(position, moves, count);
+        }
+
+        return count;
+    }
+
+    /*Check mate and stale mate are simply the absence of a legal move, the king's moves are tried first */
+    public static boolean hasLegalMove(final BitBoard position) {
+        return generateMoves(position, position.scratchMoves.moves, false, true, false) > 0;
+    }
+
+    /*Own pieces standing alone between the king and an enemy slider on the same line */
+    private static long calculatePinned(final BitBoard position, final int us, final int kingSquare) {
+        final int them = us ^ 1;
+        final long[] enemyPieces = position.pieces[them];
+        final long enemyOccupancy = position.occupancy[them];
+        long snipers = (BitBoardUtility.rookAttacks(kingSquare, enemyOccupancy) & (enemyPieces[ROOK] | enemyPieces[QUEEN])) |
+                       (BitBoardUtility.bishopAttacks(kingSquare, enemyOccupancy) & (enemyPieces[BISHOP] | enemyPieces[QUEEN]));
+        long pinned = 0L;
+
+        while (snipers != 0) {
+            final int sniper = Long.numberOfTrailingZeros(snipers);
+            snipers &= snipers - 1;
+            final long blockers = BitBoardUtility.between(kingSquare, sniper) & position.allOccupancy;
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & position.occupancy[us];
+            }
+        }
+
+        return pinned;
+    }
+
+    private static long pinRay(final long pinned, final int kingSquare, final int from) {
+        return (pinned & (1L << from)) == 0 ? -1L : BitBoardUtility.line(kingSquare, from);
+    }
+
+    private static int addMoves(final int[] moves, int count, final int from, long targets, final long enemy) {
+        while (targets != 0) {
+            final int to = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            moves[count++] = BitMove.create(from, to, (enemy & (1L << to)) != 0 ? BitMove.CAPTURE : BitMove.QUIET);
+        }
+        return count;
+    }
+
+    private static int generatePawnMoves(final BitBoard position, final int[] moves, int count, final int kingSquare,
+                                         final long checkMask, final long pinned, final boolean tacticalOnly,
+                                         final boolean underpromotions) {
+        final int us = position.sideToMove;
+        final long enemy = position.occupancy[us ^ 1];
+        final long empty = ~position.allOccupancy;
+        final long promotionRank = us == WHITE ? BitBoardUtility.RANK_8 : BitBoardUtility.RANK_1;
+
+        long pawns = position.pieces[us][PAWN];
+        while (pawns != 0) {
+            final int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            final long allowed = checkMask & pinRay(pinned, kingSquare, from);
+
+            final long single = BitBoardUtility.pawnPushes(us, from) & empty;
+            if (single != 0 && tacticalOnly) {
+                if ((single & allowed & promotionRank) != 0) {
+                    count = addPromotions(moves, count, from, Long.numberOfTrailingZeros(single), BitMove.QUEEN_PROMOTION, underpromotions);
+                }
+            } else if (single != 0) {
+                final int to = Long.numberOfTrailingZeros(single);
+                if ((single & allowed & promotionRank) != 0) {
+                    count = addPromotions(moves, count, from, to, BitMove.QUEEN_PROMOTION, underpromotions);
+                } else if ((single & allowed) != 0) {
+                    moves[count++] = BitMove.create(from, to, BitMove.QUIET);
+                }
+                final long jump = BitBoardUtility.pawnJumps(us, from) & empty & allowed;
+                if (jump != 0) {
+                    moves[count++] = BitMove.create(from, Long.numberOfTrailingZeros(jump), BitMove.DOUBLE_PAWN_PUSH);
+                }
+            }
+
+            final long attacks = BitBoardUtility.pawnAttacks(us, from);
+            long captures = attacks & enemy & allowed;
+            while (captures != 0) {
+                final int to = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                if ((promotionRank & (1L << to)) != 0) {
+                    count = addPromotions(moves, count, from, to, BitMove.QUEEN_PROMOTION_CAPTURE, underpromotions);
+                } else {
+                    moves[count++] = BitMove.create(from, to, BitMove.CAPTURE);
+                }
+            }
+
+            if (position.enPassantSquare != NO_SQUARE && (attacks & (1L << position.enPassantSquare)) != 0 &&
+                isLegalEnPassant(position, from, kingSquare)) {
+                moves[count++] = BitMove.create(from, position.enPassantSquare, BitMove.EN_PASSANT);
+            }
+        }
+
+        return count;
+    }
+
+    /*The queen promotion first, then the knight, bishop and rook ones when they are wanted */
+    private static int addPromotions(final int[] moves, int count, final int from, final int to, final int queenFlag,
+                                     final boolean underpromotions) {
+        moves[count++] = BitMove.create(from, to, queenFlag);
+        if (underpromotions) {
+            for (int flag = queenFlag - 3; flag < queenFlag; ++flag) {
+                moves[count++] = BitMove.create(from, to, flag);
+            }
+        }
+        return count;
+    }
+
+    /*
+    En passant empties two tiles of one rank at once, which pin masks cannot describe,
+    so the king is checked directly against the occupancy after the capture
+    */
+    private static boolean isLegalEnPassant(final BitBoard position, final int from, final int kingSquare) {
+        final int us = position.sideToMove;
+        final int to = position.enPassantSquare;
+        final long capturedBit = 1L << (to + (us == WHITE ? 8 : -8));
+        final long occupancy = (position.allOccupancy ^ (1L << from) ^ capturedBit) | (1L << to);
+        return (position.attackersTo(kingSquare, us ^ 1, occupancy) & ~capturedBit) == 0;
+    }
+
+    private static int generateCastleMoves(final BitBoard position, final int[] moves, int count) {
+        final int us = position.sideToMove;
+        final int them = us ^ 1;
+        final long all = position.allOccupancy;
+        final int kingSideRight = us == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        final int queenSideRight = us == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        final int kingSquare = us == WHITE ? 60 : 4;
+
+        if ((position.castlingRights & kingSideRight) != 0 &&
+            (all & (3L << (kingSquare + 1))) == 0 &&
+            !position.isSquareAttacked(kingSquare + 1, them) &&
+            !position.isSquareAttacked(kingSquare + 2, them)) {
+            moves[count++] = BitMove.create(kingSquare, kingSquare + 2, BitMove.KING_CASTLE);
+        }
+
+        if ((position.castlingRights & queenSideRight) != 0 &&
+            (all & (7L << (kingSquare - 3))) == 0 &&
+            !position.isSquareAttacked(kingSquare - 1, them) &&
+            !position.isSquareAttacked(kingSquare - 2, them)) {
+            moves[count++] = BitMove.create(kingSquare, kingSquare - 2, BitMove.QUEEN_CASTLE);
+        }
+
+        return count;
+    }
+
+}
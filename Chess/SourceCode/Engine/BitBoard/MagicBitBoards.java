@@ -0,0 +1,147 @@
+package SourceCode.Engine.BitBoard;
+
+/*
+Precomputed magic bitboard attack tables for the sliding pieces.
+The relevant blockers of a square are multiplied by a magic number and shifted down to an index
+into a table that holds the attacked tiles for that blocker configuration.
+*/
+public class MagicBitBoards {
+
+    /*Magic numbers found offline with a sparse random search, one per square */
+    private static final long[] ROOK_MAGICS = {
+        0x1080008040081020L, 0x50C0100120004000L, 0x0200088040102202L, 0x02001040040A0020L,
+        0x0100080005000210L, 0x1480018002000400L, 0x0080010002000080L, 0x4200008200410024L,
+        0x001480002840008CL, 0xF812802004400880L, 0x2004802000801002L, 0x0411002010000905L,
+        0x8016002004089200L, 0x0402001084088200L, 0x1001000402000100L, 0x0081000081000042L,
+        0x0080010020884100L, 0x3002020020408100L, 0x8000828020001000L, 0x0820808008001000L,
+        0x0008808004000800L, 0x0001010002040008L, 0x0008808001000200L, 0x8000220000A10044L,
+        0x10C0002080008040L, 0x0004200480400080L, 0x0020001010040200L, 0x0430030100100820L,
+        0xA400040080800800L, 0xA404020080800400L, 0x0200010080800200L, 0x1004040200009061L,
+        0x0010800041002100L, 0x4230004000402010L, 0x0020004800401005L, 0x0050001101000C20L,
+        0x1040040080800800L, 0x0404040080800200L, 0x0200800200800100L, 0x1000800061800100L,
+        0x0016816240008000L, 0xA808482010004000L, 0x1010002000808013L, 0x0260100021010009L,
+        0x8220040008008080L, 0x1080040002008080L, 0x0001000200090014L, 0x0180004081020004L,
+        0x2000402080010100L, 0x4260802000400080L, 0x0004100180200480L, 0x000C220210400A00L,
+        0x1208010804018080L, 0x0002000805100200L, 0x0800122810410400L, 0x1A20140061008200L,
+        0x0088204011028003L, 0x0204810028104001L, 0x4002430308200011L, 0x00000A00600C4086L,
+        0x5802002008100402L, 0x4442006821041002L, 0x1088100091085204L, 0x0002008820410402L
+    };
+
+    private static final long[] BISHOP_MAGICS = {
+        0x0804080084040040L, 0x05101001025A8040L, 0x00104C008030D00CL, 0x00144400803A1020L,
+        0x0024042010020020L, 0x0002015008100041L, 0x00211C0A60240020L, 0x8040804818040222L,
+        0x8410100410808604L, 0x00A0102401041020L, 0x0001044104010806L, 0x080A1220860E0001L,
+        0x0030020210400004L, 0x0600220202211400L, 0x0002A84808841000L, 0x0000008404620208L,
+        0x0210000410104100L, 0x5850000310020491L, 0x0304080800282200L, 0x0028100082004018L,
+        0x0004009094200020L, 0x0011020080600200L, 0x2012004441500880L, 0x1640240054020810L,
+        0x0804408410900140L, 0x2001055410100204L, 0x80080900C8005100L, 0x0811080001004101L,
+        0x2021010080104000L, 0x00008A0000880421L, 0x0080820111011000L, 0x050C808402020884L,
+        0x1098600408081801L, 0x0144240500025006L, 0x4008241000410900L, 0x6801200800410104L,
+        0x0101010402220020L, 0x0011010200010801L, 0x4002008900022800L, 0x0204CB0044090400L,
+        0x0A84140540300401L, 0x00842C0202320811L, 0x0002030402002100L, 0x0012044200808800L,
+        0x0042100200980600L, 0x0002200060800101L, 0x0020811A04800208L, 0x001800A400880240L,
+        0x1010820802405460L, 0x0C22004908480000L, 0x2000010421040008L, 0x2212013042020087L,
+        0x0940080485040040L, 0x1060120408082001L, 0x0021200400809914L, 0x00104400DC02C008L,
+        0x9202010041042002L, 0x2A10010508214400L, 0x4000010504009208L, 0x6202080400420200L,
+        0x808001000405040CL, 0x0000000810104890L, 0x0130208830010040L, 0x20440188020C0440L
+    };
+
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final int[] ROOK_OFFSETS = new int[64];
+    private static final long[] ROOK_TABLE;
+
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final int[] BISHOP_OFFSETS = new int[64];
+    private static final long[] BISHOP_TABLE;
+
+    static {
+        ROOK_TABLE = initTable(true, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS);
+        BISHOP_TABLE = initTable(false, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+    }
+
+    private MagicBitBoards() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long rookAttacks(final int square, final long occupancy) {
+        return ROOK_TABLE[ROOK_OFFSETS[square] +
+                          (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    public static long bishopAttacks(final int square, final long occupancy) {
+        return BISHOP_TABLE[BISHOP_OFFSETS[square] +
+                            (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    /*Fill one flat attack table for every square, indexed through the magic numbers */
+    private static long[] initTable(final boolean rook, final long[] masks, final long[] magics,
+                                    final int[] shifts, final int[] offsets) {
+        int size = 0;
+        for (int square = 0; square < 64; ++square) {
+            masks[square] = relevantBlockers(square, rook);
+            shifts[square] = 64 - Long.bitCount(masks[square]);
+            offsets[square] = size;
+            size += 1 << Long.bitCount(masks[square]);
+        }
+
+        final long[] table = new long[size];
+
+        for (int square = 0; square < 64; ++square) {
+            /*Enumerate every subset of the mask with the carry-rippler trick */
+            long subset = 0L;
+            do {
+                table[offsets[square] + (int) ((subset * magics[square]) >>> shifts[square])] = slidingAttacks(square, subset, rook);
+                subset = (subset - masks[square]) & masks[square];
+            } while (subset != 0);
+        }
+
+        return table;
+    }
+
+    /*Tiles whose occupancy changes the attacks, the last tile of each ray never does */
+    private static long relevantBlockers(final int square, final boolean rook) {
+        final int rank = square >>> 3;
+        final int file = square & 7;
+        long mask = 0L;
+
+        final int[][] directions = rook ? new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}
+                                        : new int[][] {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        for (final int[] direction: directions) {
+            int r = rank + direction[0];
+            int f = file + direction[1];
+            while (r + direction[0] >= 0 && r + direction[0] <= 7 && f + direction[1] >= 0 && f + direction[1] <= 7) {
+                mask |= 1L << (r * 8 + f);
+                r += direction[0];
+                f += direction[1];
+            }
+        }
+
+        return mask;
+    }
+
+    /*Slow reference attacks used only while building the tables */
+    private static long slidingAttacks(final int square, final long occupancy, final boolean rook) {
+        final int rank = square >>> 3;
+        final int file = square & 7;
+        long attacks = 0L;
+
+        final int[][] directions = rook ? new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}
+                                        : new int[][] {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        for (final int[] direction: directions) {
+            int r = rank + direction[0];
+            int f = file + direction[1];
+            while (r >= 0 && r <= 7 && f >= 0 && f <= 7) {
+                final long bit = 1L << (r * 8 + f);
+                attacks |= bit;
+                if ((occupancy & bit) != 0) break;
+                r += direction[0];
+                f += direction[1];
+            }
+        }
+
+        return attacks;
+    }
+
+}
@@ -0,0 +1,72 @@
+package SourceCode.Engine.BitBoard;
+
+/*
+A reusable buffer of packed moves. The search keeps one per ply and the generators
+overwrite it, so no list or Move object is allocated per node.
+*/
+public class MoveList {
+
+    /*Enough room for any reachable chess position */
+    public static final int MAX_MOVES = 256;
+
+    final int[] moves;
+    int size;
+
+    public MoveList() {
+        this.moves = new int[MAX_MOVES];
+        this.size = 0;
+    }
+
+    /*One buffer for every ply of a search */
+    public static MoveList[] createPlyBuffers(final int plies) {
+        final MoveList[] buffers = new MoveList[plies];
+        for (int ply = 0; ply < plies; ++ply) {
+            buffers[ply] = new MoveList();
+        }
+        return buffers;
+    }
+
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public void add(final int move) {
+        this.moves[this.size++] = move;
+    }
+
+    public boolean contains(final int move) {
+        for (int i = 0; i < this.size; ++i) {
+            if (this.moves[i] == move) return true;
+        }
+        return false;
+    }
+
+    public void swap(final int first, final int second) {
+        final int move = this.moves[first];
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.size; ++i) {
+            if (i > 0) builder.append(", ");
+            builder.append(BitMove.toString(this.moves[i]));
+        }
+        return builder.append("]").toString();
+    }
+
+}
@@ -0,0 +1,110 @@
+package SourceCode.Engine.BitBoard;
+
+import static SourceCode.Engine.BitBoard.BitBoard.*;
+
+import SourceCode.Engine.Pieces.Piece.PieceType;
+
+/*
+Static exchange evaluation: the material a move wins once every capture on its target tile has been
+played, each side taking back with its least valuable attacker and free to stop when going on would
+lose. A piece that captures leaves the occupancy, so a bishop, rook or queen behind it on the same
+line (an X-ray attacker) joins the exchange. Pins are not looked at, and a king only takes when the
+other side has no attacker left.
+*/
+public class StaticExchange {
+
+    /*More captures than there are pieces never happen on one tile */
+    private static final int MAX_EXCHANGE = 32;
+    /*Least valuable first */
+    private static final int[] ATTACKER_ORDER = {PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING};
+    private static final int[] PIECE_VALUES = new int[6];
+
+    static {
+        final PieceType[] pieceTypes = PieceType.values();
+        for (int type = 0; type < 6; ++type) {
+            PIECE_VALUES[type] = pieceTypes[type].getPieceValue();
+        }
+    }
+
+    private StaticExchange() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    /*Material the move wins for the side to move at the end of the exchange it starts, negative when it loses */
+    public static int evaluate(final BitBoard position, final int move) {
+        final int from = BitMove.getFrom(move);
+        final int to = BitMove.getTo(move);
+        final int flag = BitMove.getFlag(move);
+        if (flag == BitMove.KING_CASTLE || flag == BitMove.QUEEN_CASTLE) {
+            return 0;
+        }
+
+        final int[] gain = new int[MAX_EXCHANGE];
+        long occupancy = position.allOccupancy ^ (1L << from);
+        int onTarget = PIECE_VALUES[position.getPieceCode(from) % 6];
+
+        if (flag == BitMove.EN_PASSANT) {
+            gain[0] = PIECE_VALUES[PAWN];
+            occupancy ^= 1L << (position.sideToMove == WHITE ? to + 8 : to - 8);
+        } else if (BitMove.isCapture(move)) {
+            gain[0] = PIECE_VALUES[position.getPieceCode(to) % 6];
+        }
+        if (BitMove.isPromotion(move)) {
+            onTarget = PIECE_VALUES[BitMove.getPromotionType(move)];
+            gain[0] += onTarget - PIECE_VALUES[PAWN];
+        }
+
+        final long diagonalSliders = position.pieces[WHITE][BISHOP] | position.pieces[WHITE][QUEEN] |
+                                     position.pieces[BLACK][BISHOP] | position.pieces[BLACK][QUEEN];
+        final long straightSliders = position.pieces[WHITE][ROOK] | position.pieces[WHITE][QUEEN] |
+                                     position.pieces[BLACK][ROOK] | position.pieces[BLACK][QUEEN];
+        long attackers = (position.attackersTo(to, WHITE, occupancy) | position.attackersTo(to, BLACK, occupancy)) & occupancy;
+        int side = position.sideToMove ^ 1;
+        int depth = 0;
+
+        while (true) {
+            ++depth;
+            /*Score if the side takes the piece on the tile, it is only used when it does */
+            gain[depth] = onTarget - gain[depth - 1];
+            if (Math.max(-gain[depth - 1], gain[depth]) < 0) break;
+
+            final long sideAttackers = attackers & position.occupancy[side];
+            if (sideAttackers == 0) break;
+            int attackerType = KING;
+            long attacker = 0;
+            for (final int type: ATTACKER_ORDER) {
+                attacker = sideAttackers & position.pieces[side][type];
+                if (attacker != 0) {
+                    attackerType = type;
+                    break;
+                }
+            }
+            if (attackerType == KING && (attackers & position.occupancy[side ^ 1]) != 0) break;
+
+            /*Take with the least valuable attacker and uncover the sliders behind it */
+            occupancy ^= Long.lowestOneBit(attacker);
+            attackers |= (BitBoardUtility.bishopAttacks(to, occupancy) & diagonalSliders) |
+                         (BitBoardUtility.rookAttacks(to, occupancy) & straightSliders);
+            attackers &= occupancy;
+            onTarget = PIECE_VALUES[attackerType];
+            side ^= 1;
+        }
+
+        /*Walk back: each side only makes its capture when it does better than standing pat */
+        while (--depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+        }
+        return gain[0];
+    }
+
+    /*Whether the move wins at least the threshold, the cheap cases skip the exchange */
+    public static boolean isAtLeast(final BitBoard position, final int move, final int threshold) {
+        if (BitMove.isCapture(move) && !BitMove.isPromotion(move) && BitMove.getFlag(move) != BitMove.EN_PASSANT &&
+            threshold <= 0 &&
+            PIECE_VALUES[position.getPieceCode(BitMove.getTo(move)) % 6] >= PIECE_VALUES[position.getPieceCode(BitMove.getFrom(move)) % 6]) {
+            return true;
+        }
+        return evaluate(position, move) >= threshold;
+    }
+
+}
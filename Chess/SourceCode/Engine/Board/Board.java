@@ -6,12 +6,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitBoardUtility;
 import SourceCode.Engine.Color;
 import SourceCode.Engine.Pieces.Bishop;
 import SourceCode.Engine.Pieces.King;
 import SourceCode.Engine.Pieces.Knight;
 import SourceCode.Engine.Pieces.Pawn;
 import SourceCode.Engine.Pieces.Piece;
+import SourceCode.Engine.Pieces.Piece.PieceType;
 import SourceCode.Engine.Pieces.Queen;
 import SourceCode.Engine.Pieces.Rook;
 import SourceCode.Engine.Player.BlackPlayer;
@@ -24,24 +27,31 @@ public class Board {
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
 
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    private final Color nextMoveMaker;
 
     private final Pawn enPassantPawn;
+    private final long occupancy;
+    private final int castlingRights;
+    private final long zobristKey;
+
+    /*Derived from the pieces on first use, a board that is only evaluated or thrown away never builds them */
+    private volatile Collection<Move> whitePieceMoves;
+    private volatile Collection<Move> blackPieceMoves;
+    private volatile WhitePlayer whitePlayer;
+    private volatile BlackPlayer blackPlayer;
+    /*Tiles attacked by each color, indexed by the color's ordinal */
+    private volatile long[] attackMaps;
 
     private Board(final Builder builder) {
         this.gameBoard = createGameBoard(builder);
         this.whitePieces = calculateRemainingPieces(this.gameBoard, Color.White);
         this.blackPieces = calculateRemainingPieces(this.gameBoard, Color.Black);
         this.enPassantPawn = builder.enPassantPawn;
-        final Collection<Move> whiteAllLegalMoves = calculateLegalMoves(this.whitePieces);
-        final Collection<Move> blackAllLegalMoves = calculateLegalMoves(this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteAllLegalMoves, blackAllLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, blackAllLegalMoves, whiteAllLegalMoves);
-        this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
-
+        this.occupancy = calculateOccupancy(builder);
+        this.nextMoveMaker = builder.nextMoveMaker;
+        this.castlingRights = calculateCastlingRights();
+        /*A move hands over the key it updated, only boards set up from scratch hash every piece */
+        this.zobristKey = builder.zobristKey != null ? builder.zobristKey : Zobrist.calculateKey(this);
     }
 
     /*Mark the board as  
@@ -74,8 +84,8 @@ public class Board {
 
     public Iterable<Move> getAllLegalMoves() {
         List <Move> AllLegalMoves = new ArrayList<>();
-        AllLegalMoves.addAll(this.whitePlayer.getLegalMoves());
-        AllLegalMoves.addAll(this.blackPlayer.getLegalMoves());
+        AllLegalMoves.addAll(whitePlayer().getLegalMoves());
+        AllLegalMoves.addAll(blackPlayer().getLegalMoves());
         return Collections.unmodifiableList(AllLegalMoves);
     }
 
@@ -87,26 +97,115 @@ public class Board {
         return this.whitePieces;
     }
 
+    /*The players are created on first access, racing threads at worst build an equal copy */
     public Player blackPlayer() {
-        return this.blackPlayer;
+        BlackPlayer player = this.blackPlayer;
+        if (player == null) {
+            player = new BlackPlayer(this);
+            this.blackPlayer = player;
+        }
+        return player;
     }
 
     public Player whitePlayer() {
-        return this.whitePlayer;
+        WhitePlayer player = this.whitePlayer;
+        if (player == null) {
+            player = new WhitePlayer(this);
+            this.whitePlayer = player;
+        }
+        return player;
     }
 
     public Player currentPlayer() {
-        return this.currentPlayer;
+        return this.nextMoveMaker.isWhite() ? whitePlayer() : blackPlayer();
     }
 
     public Pawn getEnPassantPawn() {
         return this.enPassantPawn;
     }
 
+    public Color getNextMoveMaker() {
+        return this.nextMoveMaker;
+    }
+
+    /*Castling rights as the bits of BitBoard, derived from the first move flags of the kings and rooks */
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    /*Zobrist key of the position, equal boards have equal keys */
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /*Bitboard of the occupied tiles, bit i is tile i */
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
     public Tile getTile(final int TileCoordinate) {
         return gameBoard.get(TileCoordinate);
     }
 
+    /*
+    Tiles attacked by the pieces of one color, bit i is tile i. Both maps are built together on first use,
+    check and castling through check are then a single mask test
+    */
+    public long getAttackMap(final Color color) {
+        long[] maps = this.attackMaps;
+        if (maps == null) {
+            maps = new long[] {calculateAttackMap(this.whitePieces), calculateAttackMap(this.blackPieces)};
+            this.attackMaps = maps;
+        }
+        return maps[color.ordinal()];
+    }
+
+    /*Attacks of each piece from the bitboard tables, sliders stop at the first occupied tile */
+    private long calculateAttackMap(final Collection<Piece> pieces) {
+        long attacks = 0L;
+        for (final Piece piece: pieces) {
+            final int square = piece.getPiecePostition();
+            switch (piece.getPieceType()) {
+                case Pawn:
+                    attacks |= BitBoardUtility.pawnAttacks(piece.getPieceColor().ordinal(), square);
+                    break;
+                case Bishop:
+                    attacks |= BitBoardUtility.bishopAttacks(square, this.occupancy);
+                    break;
+                case Knight:
+                    attacks |= BitBoardUtility.knightAttacks(square);
+                    break;
+                case Rook:
+                    attacks |= BitBoardUtility.rookAttacks(square, this.occupancy);
+                    break;
+                case Queen:
+                    attacks |= BitBoardUtility.queenAttacks(square, this.occupancy);
+                    break;
+                default:
+                    attacks |= BitBoardUtility.kingAttacks(square);
+            }
+        }
+        return attacks;
+    }
+
+    public boolean isTileAttacked(final int tileCoordinate, final Color byColor) {
+        return (getAttackMap(byColor) & (1L << tileCoordinate)) != 0;
+    }
+
+    /*Moves of every piece of one color, without castles, computed on first use */
+    public Collection<Move> getPieceMoves(final Color color) {
+        Collection<Move> moves = color.isWhite() ? this.whitePieceMoves : this.blackPieceMoves;
+        if (moves == null) {
+            moves = calculateLegalMoves(color.isWhite() ? this.whitePieces : this.blackPieces);
+            if (color.isWhite()) {
+                this.whitePieceMoves = moves;
+            } else {
+                this.blackPieceMoves = moves;
+            }
+        }
+        return moves;
+    }
+
     /*List of all the legal move a piece can takes */
     private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
 
@@ -116,7 +215,7 @@ public class Board {
             AllLegalMoves.addAll(piece.LegalMove(this));
         }
 
-        return AllLegalMoves;
+        return Collections.unmodifiableList(AllLegalMoves);
     }
 
     /*Add all the remaining pieces on the board to a collection of pieces */
@@ -136,6 +235,33 @@ public class Board {
         return Collections.unmodifiableList(remainingPieces);
     }
 
+    private int calculateCastlingRights() {
+        int rights = 0;
+        if (isUnmoved(60, Color.White, PieceType.King)) {
+            if (isUnmoved(63, Color.White, PieceType.Rook)) rights |= BitBoard.WHITE_KING_SIDE;
+            if (isUnmoved(56, Color.White, PieceType.Rook)) rights |= BitBoard.WHITE_QUEEN_SIDE;
+        }
+        if (isUnmoved(4, Color.Black, PieceType.King)) {
+            if (isUnmoved(7, Color.Black, PieceType.Rook)) rights |= BitBoard.BLACK_KING_SIDE;
+            if (isUnmoved(0, Color.Black, PieceType.Rook)) rights |= BitBoard.BLACK_QUEEN_SIDE;
+        }
+        return rights;
+    }
+
+    private boolean isUnmoved(final int coordinate, final Color color, final PieceType type) {
+        final Tile tile = getTile(coordinate);
+        return tile.IsOccupiled() && tile.getPiece().getPieceColor() == color &&
+               tile.getPiece().getPieceType() == type && tile.getPiece().isFirstMove();
+    }
+
+    private static long calculateOccupancy(final Builder builder) {
+        long occupancy = 0L;
+        for (final int coordinate: builder.boardConfig.keySet()) {
+            occupancy |= 1L << coordinate;
+        }
+        return occupancy;
+    }
+
     /* Setting the piece on the tiles */
     private static List<Tile> createGameBoard(final Builder builder) {
 
@@ -199,6 +325,7 @@ public class Board {
         Map<Integer, Piece> boardConfig;
         Color nextMoveMaker;
         Pawn enPassantPawn;
+        Long zobristKey;
 
         public Builder() {
             this.boardConfig = new HashMap<>();
@@ -224,6 +351,12 @@ public class Board {
         public void setEnPassantPawn(Pawn enPassantPawn) {
             this.enPassantPawn = enPassantPawn;
         }
+
+        /* Set the key the move already updated, the board hashes itself if none is given */
+        public Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            return this;
+        }
     }
 
 }
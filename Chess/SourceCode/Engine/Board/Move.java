@@ -1,5 +1,6 @@
 package SourceCode.Engine.Board;
 
+import SourceCode.Engine.BitBoard.BitBoard;
 import SourceCode.Engine.Board.Board.Builder;
 import SourceCode.Engine.Pieces.Pawn;
 import SourceCode.Engine.Pieces.Piece;
@@ -79,6 +80,28 @@ public abstract class Move {
         return null;
     }
 
+    /*
+    Key of the board after the move, updated from the key of the board before it:
+    the moved piece leaves its tile and lands on the destination, a captured piece leaves its tile,
+    the side to move flips and the castling rights and en passant file are swapped for the new ones
+    */
+    protected long calculateZobristKey() {
+        final int currentCoordinate = getCurrentCoordinate();
+        final int castlingRights = this.board.getCastlingRights();
+        long key = this.board.getZobristKey() ^ Zobrist.sideKey() ^
+                   Zobrist.enPassantKey(Zobrist.enPassantSquare(this.board.getEnPassantPawn(), this.board.getNextMoveMaker().isWhite())) ^
+                   Zobrist.castlingKey(castlingRights) ^
+                   Zobrist.castlingKey(BitBoard.updateCastlingRights(castlingRights, currentCoordinate, this.destinationCoordinate)) ^
+                   Zobrist.pieceKey(this.movedPiece, currentCoordinate) ^
+                   Zobrist.pieceKey(this.movedPiece, this.destinationCoordinate);
+
+        final Piece attackedPiece = getAttackedPiece();
+        if (attackedPiece != null) {
+            key ^= Zobrist.pieceKey(attackedPiece, attackedPiece.getPiecePostition());
+        }
+        return key;
+    }
+
     /*Execute a move by creating a new board because the Board class is immutable */
     public Board execute() {
         final Builder builder = new Builder();
@@ -94,6 +117,7 @@ public abstract class Move {
         /*Set the moved piece into the builder */
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.currentPlayer().getOpponent().getPlayerColor());
+        builder.setZobristKey(calculateZobristKey());
 
         return builder.build();
     }
@@ -208,10 +232,18 @@ public abstract class Move {
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getPlayerColor());
+            builder.setZobristKey(calculateZobristKey());
 
             return builder.build();
         }
 
+        /*The jump also opens an en passant capture on the tile it passed */
+        @Override
+        protected long calculateZobristKey() {
+            return super.calculateZobristKey() ^
+                   Zobrist.enPassantKey((getCurrentCoordinate() + this.destinationCoordinate) / 2);
+        }
+
         @Override
         public String toString() {
             return movedPiece.getPieceType().toString() + BoardUtility.getPositionAtCoordinate(this.movedPiece.getPiecePostition()) + " -> " +
@@ -264,6 +296,7 @@ public abstract class Move {
 
             builder.setPiece(this.movedPiece.movePiece(this));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getPlayerColor());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
     }
@@ -306,9 +339,18 @@ public abstract class Move {
 
             builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
             builder.setMoveMaker(pawnMovedBoard.currentPlayer().getPlayerColor());
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
 
+        /*The pawn that reached the last row is swapped for the promotion piece */
+        @Override
+        protected long calculateZobristKey() {
+            return this.decoratedMove.calculateZobristKey() ^
+                   Zobrist.pieceKey(this.promotedPawn, this.destinationCoordinate) ^
+                   Zobrist.pieceKey(this.promotedPawn.getPromotionPiece(), this.destinationCoordinate);
+        }
+
         @Override
         public boolean isAttack() {
             return this.decoratedMove.isAttack();
@@ -386,11 +428,20 @@ public abstract class Move {
             }
 
             builder.setPiece(this.movedPiece.movePiece(this));
-            builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceColor()));
+            builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceColor(), false));
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getPlayerColor());
+            builder.setZobristKey(calculateZobristKey());
 
             return builder.build();
         }
+
+        /*The rook jumps over the king as well */
+        @Override
+        protected long calculateZobristKey() {
+            return super.calculateZobristKey() ^
+                   Zobrist.pieceKey(this.castleRook, this.castleRookCoordinate) ^
+                   Zobrist.pieceKey(this.castleRook, this.castleRookDestination);
+        }
     }
 
     public static final class KingSideCastleMove extends CastleMove {
@@ -0,0 +1,89 @@
+package SourceCode.Engine.Board;
+
+import java.util.Random;
+import SourceCode.Engine.Pieces.Pawn;
+import SourceCode.Engine.Pieces.Piece;
+
+/*
+Zobrist keys of a position: one random 64-bit number per piece, color and tile, one for black to move,
+one per castling rights combination and one per en passant file. The key of a position is the xor of
+the numbers of everything in it, so a move only xors out what it removes and xors in what it adds.
+The numbers come from a fixed seed, so a key is stable from one run to the next.
+*/
+public class Zobrist {
+
+    private static final long SEED = 0x5EED_C0DE_2024L;
+
+    private static final long[][][] PIECE_KEYS = new long[2][6][BoardUtility.Total_Tiles];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtility.Tolal_Tile_Per_Row];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        for (int color = 0; color < 2; ++color) {
+            for (int type = 0; type < 6; ++type) {
+                for (int square = 0; square < BoardUtility.Total_Tiles; ++square) {
+                    PIECE_KEYS[color][type][square] = random.nextLong();
+                }
+            }
+        }
+        for (int rights = 1; rights < CASTLING_KEYS.length; ++rights) {
+            CASTLING_KEYS[rights] = random.nextLong();
+        }
+        for (int file = 0; file < EN_PASSANT_KEYS.length; ++file) {
+            EN_PASSANT_KEYS[file] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("Not instantiable!");
+    }
+
+    public static long pieceKey(final int color, final int type, final int square) {
+        return PIECE_KEYS[color][type][square];
+    }
+
+    public static long pieceKey(final Piece piece, final int square) {
+        return PIECE_KEYS[piece.getPieceColor().ordinal()][piece.getPieceType().ordinal()][square];
+    }
+
+    /*Castling rights as the four bits of BitBoard, no rights hash to zero */
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /*En passant target tile, nothing for NO_SQUARE */
+    public static long enPassantKey(final int square) {
+        return square < 0 ? 0L : EN_PASSANT_KEYS[square % BoardUtility.Tolal_Tile_Per_Row];
+    }
+
+    public static long sideKey() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    /*The en passant tile behind the pawn that just jumped, NO_SQUARE when it cannot be taken this move */
+    static int enPassantSquare(final Pawn enPassantPawn, final boolean whiteToMove) {
+        if (enPassantPawn == null || enPassantPawn.getPieceColor().isWhite() == whiteToMove) {
+            return -1;
+        }
+        return enPassantPawn.getPiecePostition() - enPassantPawn.getPieceColor().getDirection() * 8;
+    }
+
+    /*Full key of a Board, only needed when a board is built without a move */
+    public static long calculateKey(final Board board) {
+        long key = 0L;
+        for (int square = 0; square < BoardUtility.Total_Tiles; ++square) {
+            final Tile tile = board.getTile(square);
+            if (tile.IsOccupiled()) {
+                key ^= pieceKey(tile.getPiece(), square);
+            }
+        }
+        final boolean whiteToMove = board.getNextMoveMaker().isWhite();
+        return key ^ castlingKey(board.getCastlingRights()) ^
+               enPassantKey(enPassantSquare(board.getEnPassantPawn(), whiteToMove)) ^
+               (whiteToMove ? 0L : BLACK_TO_MOVE_KEY);
+    }
+
+}
@@ -0,0 +1,96 @@
+package SourceCode.Engine.Perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
+import SourceCode.Engine.BitBoard.MoveList;
+
+/*
+Perft on a mutable BitBoard with the legal move generator. Every task works on its own copy of
+the position, and the last ply is counted from the size of the move list without playing it.
+By default pawns promote to every piece, which is what the published counts assume; without
+underpromotions the counts are those of the search and of the Board path.
+*/
+public class BitBoardPerft extends Perft {
+
+    private final BitBoard position;
+    private final boolean underpromotions;
+
+    public BitBoardPerft(final BitBoard position) {
+        this(position, true);
+    }
+
+    public BitBoardPerft(final BitBoard position, final boolean underpromotions) {
+        this.position = position.copy();
+        this.underpromotions = underpromotions;
+    }
+
+    @Override
+    public String getName() {
+        return this.underpromotions ? "BitBoard" : "BitBoard (queen promotions)";
+    }
+
+    @Override
+    protected List<RootTask> createRootTasks(final int depth) {
+        final MoveList moves = new MoveList();
+        generateMoves(this.position, moves, this.underpromotions);
+
+        final List<RootTask> tasks = new ArrayList<>();
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            tasks.add(new RootTask() {
+                @Override
+                public String getMoveName() {
+                    return BitMove.toString(move);
+                }
+
+                @Override
+                public long countNodes() {
+                    final BitBoard child = BitBoardPerft.this.position.copy();
+                    child.makeMove(move);
+                    return perft(child, depth - 1, MoveList.createPlyBuffers(Math.max(depth - 1, 1)),
+                                 BitBoardPerft.this.underpromotions);
+                }
+            });
+        }
+        return tasks;
+    }
+
+    @Override
+    public long perft(final int depth) {
+        return perft(this.position.copy(), depth, MoveList.createPlyBuffers(Math.max(depth, 1)), this.underpromotions);
+    }
+
+    private static void generateMoves(final BitBoard position, final MoveList moves, final boolean underpromotions) {
+        if (underpromotions) {
+            LegalMoveGenerator.generateAllMoves(position, moves);
+        } else {
+            LegalMoveGenerator.generateMoves(position, moves);
+        }
+    }
+
+    private static long perft(final BitBoard position, final int depth, final MoveList[] moveBuffers,
+                              final boolean underpromotions) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        final MoveList moves = moveBuffers[depth - 1];
+        generateMoves(position, moves, underpromotions);
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            nodes += perft(position, depth - 1, moveBuffers, underpromotions);
+            position.unmakeMove(move);
+        }
+        return nodes;
+    }
+
+}
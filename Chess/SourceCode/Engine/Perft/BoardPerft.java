@@ -0,0 +1,70 @@
+package SourceCode.Engine.Perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.Move;
+import SourceCode.Engine.Player.MoveTransition;
+
+/*
+Perft through the immutable Board, a move counts only if Player.makeMove accepts it. The Board
+promotes to a queen only, so its counts fall short of the published ones once a pawn can promote.
+*/
+public class BoardPerft extends Perft {
+
+    private final Board board;
+
+    public BoardPerft(final Board board) {
+        this.board = board;
+    }
+
+    @Override
+    public String getName() {
+        return "Board";
+    }
+
+    @Override
+    protected List<RootTask> createRootTasks(final int depth) {
+        final List<RootTask> tasks = new ArrayList<>();
+        for (final Move move: this.board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = this.board.currentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) continue;
+
+            final Board transitionBoard = transition.getTransitionBoard();
+            tasks.add(new RootTask() {
+                @Override
+                public String getMoveName() {
+                    return BitMove.toString(BitMove.fromMove(move));
+                }
+
+                @Override
+                public long countNodes() {
+                    return perft(transitionBoard, depth - 1);
+                }
+            });
+        }
+        return tasks;
+    }
+
+    @Override
+    public long perft(final int depth) {
+        return perft(this.board, depth);
+    }
+
+    private static long perft(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        long nodes = 0;
+        for (final Move move: board.currentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if (transition.getMoveStatus().isDone()) {
+                nodes += perft(transition.getTransitionBoard(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+}
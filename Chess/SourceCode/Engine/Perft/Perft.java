@@ -0,0 +1,146 @@
+package SourceCode.Engine.Perft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import SourceCode.Engine.BitBoard.BitBoard;
+
+/*
+Count the leaf nodes of the move tree to a fixed depth, split by root move ("divide").
+The counts of a correct generator are known for standard positions, so perft checks the move
+generation and times it at the same time. Every root move is an independent task, so the
+subtrees can be counted on several threads.
+The published counts include promotions to a knight, bishop and rook. Only the BitBoard path
+generates those; the Board path and the search promote to a queen only, so on a position where a
+pawn can promote their counts are lower and only the two queen-only paths are compared.
+*/
+public abstract class Perft {
+
+    public static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    public static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    public static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    /*Published counts the "check" mode verifies: position, depth and leaf nodes */
+    private static final Object[][] KNOWN_COUNTS = {
+        {START_POSITION, 5, 4865609L},
+        {KIWIPETE, 4, 4085603L},
+        {POSITION_3, 6, 11030083L}
+    };
+
+    /*A root move and the count of the subtree below it, safe to run on its own thread */
+    protected interface RootTask {
+        String getMoveName();
+        long countNodes();
+    }
+
+    /*Name of the move generation path the counts come from */
+    public abstract String getName();
+
+    /*One task per legal root move, each subtree counted to depth - 1 */
+    protected abstract List<RootTask> createRootTasks(final int depth);
+
+    /*Leaf nodes of the whole tree on the calling thread */
+    public abstract long perft(final int depth);
+
+    public PerftResult divide(final int depth) {
+        return divide(depth, 1);
+    }
+
+    public PerftResult divide(final int depth, final int threads) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Perft depth must be at least 1");
+        }
+
+        final long startTime = System.nanoTime();
+        final List<RootTask> tasks = createRootTasks(depth);
+        final Map<String, Long> counts = new LinkedHashMap<>();
+
+        if (threads <= 1) {
+            for (final RootTask task: tasks) {
+                counts.put(task.getMoveName(), task.countNodes());
+            }
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<Long>> results = new ArrayList<>();
+                for (final RootTask task: tasks) {
+                    results.add(executor.submit(task::countNodes));
+                }
+                for (int i = 0; i < tasks.size(); ++i) {
+                    counts.put(tasks.get(i).getMoveName(), results.get(i).get());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Perft interrupted", e);
+            } catch (final ExecutionException e) {
+                throw new RuntimeException("Perft failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        return new PerftResult(getName(), depth, counts, System.nanoTime() - startTime);
+    }
+
+    /*
+    Usage: Perft [board|bitboard|both] depth [threads] [fen]
+           Perft check [threads]
+    "both" runs the two paths on the same position and reports the root moves whose counts differ,
+    "check" runs the BitBoard path on the known positions and exits with 1 when a count is wrong
+    */
+    public static void main(final String[] args) {
+        final String mode = args.length > 0 ? args[0] : "both";
+        if (mode.equals("check")) {
+            final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            if (!checkKnownCounts(threads)) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        final int depth = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        final int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        final String fen = args.length > 3 ? String.join(" ", java.util.Arrays.copyOfRange(args, 3, args.length))
+                                           : START_POSITION;
+        final BitBoard position = BitBoard.fromFen(fen);
+
+        PerftResult boardResult = null;
+        PerftResult bitBoardResult = null;
+
+        if (mode.equals("board") || mode.equals("both")) {
+            boardResult = new BoardPerft(position.toBoard()).divide(depth, threads);
+            System.out.println(boardResult);
+        }
+        if (mode.equals("bitboard") || mode.equals("both")) {
+            /*Compared against the Board, which cannot underpromote */
+            bitBoardResult = new BitBoardPerft(position, !mode.equals("both")).divide(depth, threads);
+            System.out.println(bitBoardResult);
+        }
+        if (boardResult != null && bitBoardResult != null) {
+            final List<String> differences = boardResult.compare(bitBoardResult);
+            System.out.println(differences.isEmpty() ? "Both paths agree" : "Differences: " + differences);
+        }
+    }
+
+    /*Run the BitBoard path on every known position, true when all counts match */
+    public static boolean checkKnownCounts(final int threads) {
+        boolean passed = true;
+        for (final Object[] known: KNOWN_COUNTS) {
+            final String fen = (String) known[0];
+            final int depth = (Integer) known[1];
+            final long expected = (Long) known[2];
+            final PerftResult result = new BitBoardPerft(BitBoard.fromFen(fen)).divide(depth, threads);
+            final boolean matches = result.getNodes() == expected;
+            passed &= matches;
+            System.out.println((matches ? "OK   " : "FAIL ") + fen + " depth " + depth + ": " + result.getNodes() +
+                               (matches ? "" : " expected " + expected) + " (" + result.getNodesPerSecond() + " nodes/sec)");
+        }
+        return passed;
+    }
+
+}
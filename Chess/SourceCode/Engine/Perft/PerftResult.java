@@ -0,0 +1,79 @@
+package SourceCode.Engine.Perft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*The divide counts of one perft run and how long it took */
+public class PerftResult {
+
+    private final String name;
+    private final int depth;
+    private final Map<String, Long> divide;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    PerftResult(final String name, final int depth, final Map<String, Long> divide, final long elapsedNanos) {
+        this.name = name;
+        this.depth = depth;
+        this.divide = Collections.unmodifiableMap(new LinkedHashMap<>(divide));
+        this.nodes = divide.values().stream().mapToLong(Long::longValue).sum();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /*Leaf nodes below every root move, keyed by the move in coordinate notation */
+    public Map<String, Long> getDivide() {
+        return this.divide;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedNanos / 1000000;
+    }
+
+    public long getNodesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.nodes * 1000000000L / this.elapsedNanos;
+    }
+
+    /*Root moves missing on either side or counted differently */
+    public List<String> compare(final PerftResult other) {
+        final List<String> differences = new ArrayList<>();
+        for (final Map.Entry<String, Long> entry: this.divide.entrySet()) {
+            final Long count = other.divide.get(entry.getKey());
+            if (!entry.getValue().equals(count)) {
+                differences.add(entry.getKey() + " " + entry.getValue() + " vs " + count);
+            }
+        }
+        for (final String move: other.divide.keySet()) {
+            if (!this.divide.containsKey(move)) {
+                differences.add(move + " null vs " + other.divide.get(move));
+            }
+        }
+        return differences;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Map.Entry<String, Long> entry: this.divide.entrySet()) {
+            builder.append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+        }
+        builder.append(String.format("%s perft(%d) = %d nodes in %d ms, %d nodes/sec",
+                                     this.name, this.depth, this.nodes, getElapsedMillis(), getNodesPerSecond()));
+        return builder.toString();
+    }
+
+}
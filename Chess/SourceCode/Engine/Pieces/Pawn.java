@@ -7,13 +7,11 @@ import java.util.List;
 
 import SourceCode.Engine.Color;
 import SourceCode.Engine.Board.Board;
-import SourceCode.Engine.Board.BoardUtility;
 import SourceCode.Engine.Board.Move;
+import SourceCode.Engine.BitBoard.BitBoardUtility;
 import SourceCode.Engine.Board.Move.*;
 
 public class Pawn extends Piece {
-    
-    private static final int[] potentialMajorMove = {8, 7, 9, 16};
 
     public Pawn(final int piecePosition, final Color pieceColor) {
         super(PieceType.Pawn, piecePosition, pieceColor, true);
@@ -25,7 +23,7 @@ public class Pawn extends Piece {
 
     @Override
     public Pawn movePiece(Move move) {
-        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceColor());
+        return new Pawn(move.getDestinationCoordinate(), move.getMovedPiece().getPieceColor(), false);
     }
 
     /*Mark the pawn as a string */
@@ -43,89 +41,52 @@ public class Pawn extends Piece {
     public Collection<Move> LegalMove(final Board board) {
 
         final List<Move> AllLegalMove = new ArrayList<>();
+        final int color = this.pieceColor.ordinal();
+        final long emptyTiles = ~board.getOccupancy();
 
-        for (final int CurrentCandidateOffset: potentialMajorMove) {
-            final int candidateDestinationCoordinate = this.piecePosition + (this.getPieceColor().getDirection() * CurrentCandidateOffset);
-            /*Check the valid move the selected pawn could make */
-            if (!BoardUtility.isValidTileCoordinate(candidateDestinationCoordinate)) continue;
-            /*If the destination tile is empty then add that move as a major move to the collection of legal moves*/  
-            if (CurrentCandidateOffset == 8 && !board.getTile(candidateDestinationCoordinate).IsOccupiled()) {
-                /*Check if the pawn can do a promotion*/
-                if (this.pieceColor.isPromotion(candidateDestinationCoordinate)) {
-                    AllLegalMove.add(new PawnPromotion(new PawnMove(board, this, candidateDestinationCoordinate)));
-                } else {
-                    AllLegalMove.add(new PawnMove(board, this, candidateDestinationCoordinate));
+        /*If the tile in front is empty then the pawn can advance one square */
+        final long push = BitBoardUtility.pawnPushes(color, this.piecePosition) & emptyTiles;
+        if (push != 0) {
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(push);
+            /*Check if the pawn can do a promotion*/
+            if (this.pieceColor.isPromotion(candidateDestinationCoordinate)) {
+                AllLegalMove.add(new PawnPromotion(new PawnMove(board, this, candidateDestinationCoordinate)));
+            } else {
+                AllLegalMove.add(new PawnMove(board, this, candidateDestinationCoordinate));
+                /*On its first move from the starting row a pawn may advance two squares if both are vacant */
+                final long jump = BitBoardUtility.pawnJumps(color, this.piecePosition) & emptyTiles;
+                if (jump != 0 && this.isFirstMove()) {
+                    AllLegalMove.add(new PawnJump(board, this, Long.numberOfTrailingZeros(jump)));
                 }
-            } else 
-            /*If is it the first time a pawn moves, it has the additional option of advancing two squares, 
-            provided that both squares are vacant */
-            if (CurrentCandidateOffset == 16 && this.isFirstMove() && 
-               ((BoardUtility.Second_Row[this.piecePosition] && this.getPieceColor().isBlack()) ||
-               (BoardUtility.Seventh_Row[this.piecePosition] && this.getPieceColor().isWhite()))) {
-                    /*Check if the 2 front tiles infront of the selected pawn is empty or not */
-                    final int behindCandidateDestinationCoordinate = this.piecePosition + (this.getPieceColor().getDirection() * 8);
-                    if (!board.getTile(behindCandidateDestinationCoordinate).IsOccupiled() &&
-                        !board.getTile(candidateDestinationCoordinate).IsOccupiled()) {
-                            AllLegalMove.add(new PawnJump(board, this, candidateDestinationCoordinate));
-                        }
-            } else
-            /*
-            A pawn captures by moving diagonally forward one square to the right 
-            Also check the validity of the capture move
-            */
-            if (CurrentCandidateOffset == 7 &&
-               !((BoardUtility.First_Column[this.piecePosition] && this.pieceColor.isBlack()) ||
-                 (BoardUtility.Eighth_Column[this.piecePosition] && this.pieceColor.isWhite()))) {
-                    if (board.getTile(candidateDestinationCoordinate).IsOccupiled()) {
+            }
+        }
 
-                        final Piece pieceOnDestination = board.getTile(candidateDestinationCoordinate).getPiece();
-                        if (this.pieceColor != pieceOnDestination.getPieceColor()) {
-                            /*Check if the pawn can do a promotion*/
-                            if (this.pieceColor.isPromotion(candidateDestinationCoordinate)) {
-                                AllLegalMove.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination)));
-                            } else {
-                                AllLegalMove.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
-                            }
-                        }
-                    /*Check if is possible to do an en passant capture move*/
-                    } else if (board.getEnPassantPawn() != null) {
-                        if (board.getEnPassantPawn().getPiecePostition() == (this.piecePosition + this.pieceColor.getOppositeDirection())) {
-                            final Piece pieceOnDestination = board.getEnPassantPawn();
-                            if (this.pieceColor != pieceOnDestination.getPieceColor()) {
-                                  AllLegalMove.add(new PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
-                            }
-                        } 
-                    }
-            } else 
-            /*
-            A pawn captures by moving diagonally forward one square to the left 
-            Also check the validity of the capture move
-            */
-            if (CurrentCandidateOffset == 9 &&
-               !((BoardUtility.Eighth_Column[this.piecePosition] && this.pieceColor.isBlack()) ||
-                 (BoardUtility.First_Column[this.piecePosition] && this.pieceColor.isWhite()))) {
-                    if (board.getTile(candidateDestinationCoordinate).IsOccupiled()) {
+        /*A pawn captures by moving diagonally forward one square */
+        long attacks = BitBoardUtility.pawnAttacks(color, this.piecePosition);
+        while (attacks != 0) {
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(attacks);
+            attacks &= attacks - 1;
 
-                        final Piece pieceOnDestination = board.getTile(candidateDestinationCoordinate).getPiece();
-                        if (this.pieceColor != pieceOnDestination.getPieceColor()) {
-                            /*Check if the pawn can do a promotion*/
-                            if (this.pieceColor.isPromotion(candidateDestinationCoordinate)) {
-                                AllLegalMove.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination)));
-                            } else {
-                                AllLegalMove.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
-                            }
-                        }
-                    /*Check if is possible to do an en passant capture move*/
-                    } else if (board.getEnPassantPawn() != null) {
-                        if (board.getEnPassantPawn().getPiecePostition() == (this.piecePosition - this.pieceColor.getOppositeDirection())) {
-                            final Piece pieceOnDestination = board.getEnPassantPawn();
-                            if (this.pieceColor != pieceOnDestination.getPieceColor()) {
-                                  AllLegalMove.add(new PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
-                            }
-                        } 
+            if (board.getTile(candidateDestinationCoordinate).IsOccupiled()) {
+                final Piece pieceOnDestination = board.getTile(candidateDestinationCoordinate).getPiece();
+                if (this.pieceColor != pieceOnDestination.getPieceColor()) {
+                    /*Check if the pawn can do a promotion*/
+                    if (this.pieceColor.isPromotion(candidateDestinationCoordinate)) {
+                        AllLegalMove.add(new PawnPromotion(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination)));
+                    } else {
+                        AllLegalMove.add(new PawnAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
                     }
+                }
+            /*Check if is possible to do an en passant capture move*/
+            } else if (board.getEnPassantPawn() != null) {
+                final Piece pieceOnDestination = board.getEnPassantPawn();
+                if (pieceOnDestination.getPiecePostition() == candidateDestinationCoordinate - this.pieceColor.getDirection() * 8 &&
+                    this.pieceColor != pieceOnDestination.getPieceColor()) {
+                    AllLegalMove.add(new PawnEnPassantAttackMove(board, this, candidateDestinationCoordinate, pieceOnDestination));
+                }
             }
         }
+
         return Collections.unmodifiableList(AllLegalMove);
     }
 }
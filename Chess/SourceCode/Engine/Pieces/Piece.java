@@ -1,10 +1,15 @@
 package SourceCode.Engine.Pieces;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import SourceCode.Engine.Color;
 import SourceCode.Engine.Board.Board;
 import SourceCode.Engine.Board.Move;
+import SourceCode.Engine.Board.Tile;
+import SourceCode.Engine.Board.Move.MajorAttackMove;
+import SourceCode.Engine.Board.Move.MajorMove;
 
 /*Construct an abstract piece */
 public abstract class Piece {
@@ -64,6 +69,28 @@ public abstract class Piece {
     /*List of all the legal move a piece can takes */
     public abstract Collection<Move> LegalMove(final Board board);
 
+    /*Turn the tiles this piece attacks into major moves on empty tiles and attack moves on enemy pieces */
+    protected List<Move> createMoves(final Board board, long targets) {
+        final List<Move> AllLegalMove = new ArrayList<>(Long.bitCount(targets));
+
+        while (targets != 0) {
+            final int candidateDestinationCoordinate = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+            final Tile candidateDestinationTile = board.getTile(candidateDestinationCoordinate);
+
+            if (!candidateDestinationTile.IsOccupiled()) {
+                AllLegalMove.add(new MajorMove(board, this, candidateDestinationCoordinate));
+            } else {
+                final Piece pieceDestination = candidateDestinationTile.getPiece();
+                if (this.pieceColor != pieceDestination.getPieceColor()) {
+                    AllLegalMove.add(new MajorAttackMove(board, this, candidateDestinationCoordinate, pieceDestination));
+                }
+            }
+        }
+
+        return AllLegalMove;
+    }
+
     /*Check if is the first time the piece moves */
     public boolean isFirstMove() {
         return this.isFirstMove;
@@ -0,0 +1,602 @@
+package SourceCode.Engine.Player.AI;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
+import SourceCode.Engine.BitBoard.MoveList;
+import SourceCode.Engine.BitBoard.StaticExchange;
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.Move;
+
+/*
+Alpha-beta search in negamax form with principal variation search: the first move of a node is searched
+with the full window, every later move only has to prove it is no better with a null window and is
+searched again with the full window when it is. Scores are from the side to move, the evaluator's
+white-minus-black score is flipped for black. The evaluator comes with the SearchParameters, by default
+the tapered material and piece-square one with the cached pawn structure on top.
+
+The search deepens one ply at a time up to the search depth, each iteration starts from a narrow
+aspiration window around the score of the last one and ordering the best move found so far first.
+The time manager decides when to stop; an unfinished iteration is thrown away and the move of the
+last completed depth is played. Inside the tree MoveOrdering picks the moves one at a time, and the
+effective branching factor and the share of cutoffs on the first move show how well it does.
+
+At the horizon a quiescence search keeps playing captures and promotions until the position is quiet,
+so a leaf is never scored in the middle of an exchange. Captures that lose material by static exchange
+are left out there and reduced like late quiet moves in the main search. A node without a legal move is
+scored by the search itself: a draw in stalemate, and in checkmate the mate score less the distance from
+the root, so a nearer mate scores higher. The table keeps mate scores from the node instead.
+
+Off the principal variation the search is selective, tuned through SearchParameters: a null move lets
+the opponent move twice and cuts the node when a reduced search still fails high, and late quiet moves
+are searched at reduced depth first, only a fail high earns them the full depth. Near the horizon the
+static evaluation prunes as well: reverse futility, razoring and futility compare it to the window
+with a margin per depth, and ProbCut trusts a shallow capture search that beats beta by a margin.
+
+The ExtensionPolicy of the parameters goes the other way and searches forcing moves deeper: checks,
+recaptures, pawns reaching the 7th and hash moves that turn out singular, counted in fractions of a ply.
+*/
+public class AlphaBeta implements MoveStrategy {
+
+    static final int INFINITY = 1000000000;
+    /*Deepest ply the move buffers allow, the search depth stays below it */
+    public static final int MAX_PLY = 128;
+    /*Score of being checkmated at the root, a mate at ply n scores MATE - n */
+    static final int MATE = 100000;
+    /*Scores beyond this are checkmates, a null move never claims one */
+    static final int MATE_THRESHOLD = MATE - MAX_PLY;
+    private static final int DRAW = 0;
+
+    private static final int ASPIRATION_WINDOW = 50;
+    /*What positional gain a capture may bring on top of its material before delta pruning gives up on it */
+    private static final int DELTA_MARGIN = 200;
+    /*Nodes between two looks at the clock */
+    private static final int TIME_CHECK_NODES = 1024;
+
+    private final BoardEvaluation boardEvaluation;
+    private final int searchDepth;
+    private final MoveList[] moveBuffers;
+    private final TranspositionTable transpositionTable;
+    private final TimeManager timeManager;
+    private final MoveOrdering moveOrdering;
+    private final SearchParameters parameters;
+    private final ExtensionPolicy extensionPolicy;
+    /*Late move reduction by depth and move index */
+    private final int[][] reductions;
+    /*Move played at every ply of the current line, the countermove table is keyed by the one before */
+    private final int[] lineMoves;
+    /*Extension fraction carried down the current line to every ply */
+    private final int[] extensionCarry;
+    /*Move a singular extension test leaves out at a ply, NO_MOVE otherwise */
+    private final int[] excludedMoves;
+    /*Quiet moves actually searched at each ply before the current one, the history penalty goes to these only */
+    private final int[][] searchedQuiets;
+    private int rootDepth;
+    private long nodes;
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    private boolean stopped;
+    /*Set from another thread to end the search at the next look at the clock */
+    private volatile boolean stopRequested;
+    private int completedDepth;
+    private int rootBestMove;
+
+    public AlphaBeta(final int searchDepth) {
+        this(searchDepth, new TranspositionTable());
+    }
+
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, TimeManager.unlimited());
+    }
+
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable, final TimeManager timeManager) {
+        this(searchDepth, transpositionTable, timeManager, SearchParameters.defaults());
+    }
+
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable, final TimeManager timeManager,
+                     final SearchParameters parameters) {
+        this(searchDepth, transpositionTable, timeManager, parameters, new MoveOrdering(MAX_PLY));
+    }
+
+    /*A search with its own move ordering tables, or sharing the history of another search thread */
+    AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable, final TimeManager timeManager,
+              final SearchParameters parameters, final MoveOrdering moveOrdering) {
+        this.boardEvaluation = parameters.getBoardEvaluation();
+        this.searchDepth = Math.max(1, Math.min(searchDepth, MAX_PLY - 1));
+        this.moveBuffers = MoveList.createPlyBuffers(MAX_PLY);
+        this.transpositionTable = transpositionTable;
+        this.timeManager = timeManager;
+        this.moveOrdering = moveOrdering;
+        this.lineMoves = new int[MAX_PLY];
+        this.parameters = parameters;
+        this.extensionPolicy = parameters.getExtensionPolicy();
+        this.extensionCarry = new int[MAX_PLY + 1];
+        this.excludedMoves = new int[MAX_PLY];
+        this.searchedQuiets = new int[MAX_PLY][MoveList.MAX_MOVES];
+        this.reductions = new int[MAX_PLY][MoveList.MAX_MOVES];
+        for (int depth = 1; depth < MAX_PLY; ++depth) {
+            for (int index = 0; index < MoveList.MAX_MOVES; ++index) {
+                this.reductions[depth][index] = parameters.lateMoveReduction(depth, index);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AlphaBeta";
+    }
+
+    /*Nodes visited by the last search */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /*Share of the beta cutoffs that came from the first move searched */
+    public double getFirstMoveCutoffRate() {
+        return this.betaCutoffs == 0 ? 0 : (double) this.firstMoveCutoffs / this.betaCutoffs;
+    }
+
+    /*Deepest iteration the last search finished */
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    MoveOrdering getMoveOrdering() {
+        return this.moveOrdering;
+    }
+
+    /*End a running search from another thread, it returns the move of the last completed depth */
+    public void stop() {
+        this.stopRequested = true;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        this.stopRequested = false;
+        this.transpositionTable.newSearch();
+        System.out.println(board.currentPlayer() + " Thinking with depth = " + this.searchDepth);
+
+        final int bestMove = searchPosition(BitBoard.fromBoard(board), 1, true);
+        return bestMove == BitMove.NO_MOVE ? Move.NULL_MOVE : BitMove.toMove(board, bestMove);
+    }
+
+    /*
+    Deepen from the first depth up to the search depth, the best move of the last completed iteration
+    or NO_MOVE when there is no legal move. Only a reporting search prints its iterations
+    */
+    int searchPosition(final BitBoard position, final int firstDepth, final boolean report) {
+        this.timeManager.start();
+        this.nodes = 0;
+        this.betaCutoffs = 0;
+        this.firstMoveCutoffs = 0;
+        this.stopped = false;
+        this.completedDepth = 0;
+        this.moveOrdering.newSearch();
+
+        final MoveList moves = this.moveBuffers[0];
+        LegalMoveGenerator.generateMoves(position, moves);
+        if (moves.isEmpty()) {
+            return BitMove.NO_MOVE;
+        }
+        orderHashMove(this.transpositionTable.probe(position.getZobristKey()), moves);
+
+        int bestMove = moves.get(0);
+        int bestScore = 0;
+        long lastIterationMillis = 0;
+        long lastIterationNodes = 0;
+
+        for (int depth = Math.min(firstDepth, this.searchDepth); depth <= this.searchDepth; ++depth) {
+            if (depth > firstDepth && !this.timeManager.canStartIteration(lastIterationMillis)) break;
+
+            final long iterationStart = this.timeManager.getElapsedMillis();
+            final long nodesBefore = this.nodes;
+            final int score = depth == firstDepth ? searchRoot(position, moves, depth, -INFINITY, INFINITY)
+                                         : aspirationSearch(position, moves, depth, bestScore);
+            if (this.stopped) break;
+
+            bestMove = this.rootBestMove;
+            bestScore = score;
+            this.completedDepth = depth;
+            lastIterationMillis = this.timeManager.getElapsedMillis() - iterationStart;
+            this.transpositionTable.store(position.getZobristKey(), depth, score, TranspositionTable.EXACT, bestMove);
+
+            /*Effective branching factor: how many times more nodes this iteration took than the one before */
+            final long iterationNodes = this.nodes - nodesBefore;
+            final double branchingFactor = lastIterationNodes == 0 ? 0 : (double) iterationNodes / lastIterationNodes;
+            lastIterationNodes = iterationNodes;
+
+            if (report) System.out.println(this + " depth " + depth + " score " + score + " nodes " + this.nodes + " time " +
+                               this.timeManager.getElapsedMillis() + " ms ebf " + String.format("%.2f", branchingFactor) +
+                               " first cutoffs " + String.format("%.0f%%", 100 * getFirstMoveCutoffRate()) +
+                               " best " + BitMove.toString(bestMove));
+        }
+
+        return bestMove;
+    }
+
+    /*Search a window around the last score and widen the side that failed until the score falls inside */
+    private int aspirationSearch(final BitBoard position, final MoveList moves, final int depth, final int lastScore) {
+        int delta = ASPIRATION_WINDOW;
+        int alpha = Math.max(-INFINITY, lastScore - delta);
+        int beta = Math.min(INFINITY, lastScore + delta);
+
+        while (true) {
+            final int score = searchRoot(position, moves, depth, alpha, beta);
+            if (this.stopped) return score;
+
+            if (score <= alpha && alpha > -INFINITY) {
+                alpha = Math.max(-INFINITY, score - delta);
+            } else if (score >= beta && beta < INFINITY) {
+                beta = Math.min(INFINITY, score + delta);
+            } else {
+                return score;
+            }
+            delta = delta >= INFINITY / 4 ? INFINITY : delta * 4;
+        }
+    }
+
+    /*Search every root move, the best one is moved to the front for the next iteration */
+    private int searchRoot(final BitBoard position, final MoveList moves, final int depth, int alpha, final int beta) {
+        int bestScore = -INFINITY;
+        int bestIndex = 0;
+        this.rootDepth = depth;
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            this.lineMoves[0] = move;
+            position.makeMove(move);
+            final int newDepth = depth - 1 + extend(position, move, BitMove.NO_MOVE, 0, position.isInCheck(), false);
+            int score;
+            if (i == 0) {
+                score = -search(position, newDepth, -beta, -alpha, 1);
+            } else {
+                score = -search(position, newDepth, -alpha - 1, -alpha, 1);
+                if (score > alpha && score < beta) {
+                    score = -search(position, newDepth, -beta, -alpha, 1);
+                }
+            }
+            position.unmakeMove(move);
+            if (this.stopped) return bestScore;
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestIndex = i;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+
+        moves.swap(0, bestIndex);
+        this.rootBestMove = moves.get(0);
+        return bestScore;
+    }
+
+    private int search(final BitBoard position, final int depth, int alpha, final int beta, final int ply) {
+        if (depth <= 0) {
+            return quiescence(position, alpha, beta, ply);
+        }
+        if (countNode()) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return evaluate(position, 0);
+        }
+
+        final int excludedMove = this.excludedMoves[ply];
+        final long key = position.getZobristKey();
+        final long entry = this.transpositionTable.probe(key);
+        if (excludedMove == BitMove.NO_MOVE && entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth) {
+            final int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+            final int bound = TranspositionTable.getBound(entry);
+            if (bound == TranspositionTable.EXACT ||
+                bound == TranspositionTable.LOWER_BOUND && score >= beta ||
+                bound == TranspositionTable.UPPER_BOUND && score <= alpha) {
+                return score;
+            }
+        }
+
+        final boolean inCheck = position.isInCheck();
+        final boolean principalVariation = beta - alpha > 1;
+        final boolean selective = !principalVariation && !inCheck && excludedMove == BitMove.NO_MOVE;
+        final int staticEval = selective ? evaluate(position, depth) : -INFINITY;
+
+        /*Reverse futility: so far above beta that no reply at this depth will bring it back */
+        if (selective && this.parameters.canPruneReverseFutile(depth) && Math.abs(beta) < MATE_THRESHOLD &&
+            staticEval - this.parameters.reverseFutilityMargin(depth) >= beta) {
+            return staticEval - this.parameters.reverseFutilityMargin(depth);
+        }
+
+        /*Razoring: so far below alpha that only captures can help, quiescence decides */
+        if (selective && this.parameters.canRazor(depth) && staticEval + this.parameters.razorMargin(depth) <= alpha) {
+            final int score = quiescence(position, alpha, alpha + 1, ply);
+            if (this.stopped) return 0;
+            if (score <= alpha) {
+                return score;
+            }
+        }
+
+        /*Pass the turn: if the opponent still cannot get below beta with a free move, a real move won't either */
+        if (this.parameters.isNullMoveEnabled() && selective &&
+            depth >= this.parameters.getNullMoveMinDepth() && this.lineMoves[ply - 1] != BitMove.NO_MOVE &&
+            position.hasNonPawnMaterial(position.getSideToMove()) && staticEval >= beta) {
+            this.lineMoves[ply] = BitMove.NO_MOVE;
+            this.extensionCarry[ply + 1] = this.extensionCarry[ply];
+            position.makeNullMove();
+            final int score = -search(position, depth - 1 - this.parameters.nullMoveReduction(depth), -beta, -beta + 1, ply + 1);
+            position.unmakeNullMove();
+            if (this.stopped) return 0;
+            if (score >= beta) {
+                return score >= MATE_THRESHOLD ? beta : score;
+            }
+        }
+
+        /*ProbCut: a capture that beats beta by a margin in a shallow search very likely beats beta in the full one */
+        if (selective && this.parameters.isProbCutEnabled() && depth >= this.parameters.getProbCutMinDepth() &&
+            Math.abs(beta) < MATE_THRESHOLD) {
+            final int score = probCut(position, depth, beta + this.parameters.getProbCutMargin(), staticEval, ply);
+            if (this.stopped) return 0;
+            if (score != -INFINITY) {
+                return score;
+            }
+        }
+
+        final int hashMove = entry == TranspositionTable.NO_ENTRY ? BitMove.NO_MOVE : TranspositionTable.getMove(entry);
+        final boolean singular = hashMove != BitMove.NO_MOVE && excludedMove == BitMove.NO_MOVE &&
+                                 isSingular(position, entry, hashMove, depth, ply);
+        if (this.stopped) return 0;
+
+        final MoveList moves = this.moveBuffers[ply];
+        LegalMoveGenerator.generateMoves(position, moves);
+        if (moves.isEmpty()) {
+            return inCheck ? -(MATE - ply) : DRAW;
+        }
+        /*Futility: quiet moves cannot lift a node this far below alpha, only captures, promotions and checks are searched */
+        final boolean futile = selective && this.parameters.canPruneFutile(depth) && Math.abs(alpha) < MATE_THRESHOLD &&
+                               staticEval + this.parameters.futilityMargin(depth) <= alpha;
+        final int previousMove = this.lineMoves[ply - 1];
+        this.moveOrdering.scoreMoves(position, moves, hashMove, ply, previousMove);
+
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = BitMove.NO_MOVE;
+        final int[] searchedQuiets = this.searchedQuiets[ply];
+        int searchedQuietCount = 0;
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = this.moveOrdering.nextMove(moves, ply, i);
+            if (move == excludedMove) continue;
+            final boolean losingCapture = this.moveOrdering.isLosingCapture(ply, i);
+            this.lineMoves[ply] = move;
+            position.makeMove(move);
+            final boolean givesCheck = position.isInCheck();
+            if (futile && i > 0 && !MoveOrdering.isTactical(move) && !givesCheck) {
+                position.unmakeMove(move);
+                continue;
+            }
+            final int extension = extend(position, move, previousMove, ply, givesCheck, singular && move == hashMove);
+            final int newDepth = depth - 1 + extension;
+            int score;
+            if (i == 0) {
+                score = -search(position, newDepth, -beta, -alpha, ply + 1);
+            } else {
+                final int reduction = extension > 0 ? 0 : lateMoveReduction(move, depth, i, inCheck, givesCheck, losingCapture);
+                score = -search(position, newDepth - reduction, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && reduction > 0) {
+                    score = -search(position, newDepth, -alpha - 1, -alpha, ply + 1);
+                }
+                if (score > alpha && score < beta) {
+                    score = -search(position, newDepth, -beta, -alpha, ply + 1);
+                }
+            }
+            position.unmakeMove(move);
+            if (this.stopped) return 0;
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        ++this.betaCutoffs;
+                        if (i == 0) ++this.firstMoveCutoffs;
+                        if (!MoveOrdering.isTactical(move)) {
+                            this.moveOrdering.updateQuietCutoff(position, move, searchedQuiets, searchedQuietCount,
+                                                                depth, ply, previousMove);
+                        }
+                        break;
+                    }
+                }
+            }
+            if (!MoveOrdering.isTactical(move)) {
+                searchedQuiets[searchedQuietCount++] = move;
+            }
+        }
+
+        /*A search without one of the moves is not the value of the position */
+        if (excludedMove != BitMove.NO_MOVE) return bestScore;
+
+        final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND :
+                          bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        this.transpositionTable.store(key, depth, scoreToTable(bestScore, ply), bound, bestMove);
+        return bestScore;
+    }
+
+    /*
+    The hash move is singular when the table holds a deep enough lower bound for it and a search of the
+    node at half the depth without it fails below that score by the singular margin
+    */
+    private boolean isSingular(final BitBoard position, final long entry, final int hashMove, final int depth, final int ply) {
+        final int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+        if (!this.extensionPolicy.canExtendSingular(depth) || TranspositionTable.getBound(entry) == TranspositionTable.UPPER_BOUND ||
+            TranspositionTable.getDepth(entry) < depth - 3 || Math.abs(score) >= MATE_THRESHOLD) {
+            return false;
+        }
+        final int singularBeta = score - this.extensionPolicy.getSingularMargin() * depth;
+        this.excludedMoves[ply] = hashMove;
+        final int singularScore = search(position, (depth - 1) / 2, singularBeta - 1, singularBeta, ply);
+        this.excludedMoves[ply] = BitMove.NO_MOVE;
+        return singularScore < singularBeta;
+    }
+
+    /*
+    Whole plies to extend a move just made by. The fraction carried to the ply is added to what the
+    policy gives the move, a whole ply of it is used and the rest is carried to the next ply
+    */
+    private int extend(final BitBoard position, final int move, final int previousMove, final int ply,
+                       final boolean givesCheck, final boolean singular) {
+        int fraction = this.extensionCarry[ply];
+        if (ply < 2 * this.rootDepth) {
+            fraction += this.extensionPolicy.extension(position, move, previousMove, givesCheck);
+            if (singular) {
+                fraction += this.extensionPolicy.getSingularExtension();
+            }
+        }
+        final int plies = Math.min(1, fraction / ExtensionPolicy.ONE_PLY);
+        this.extensionCarry[ply + 1] = Math.min(ExtensionPolicy.ONE_PLY - 1, fraction - plies * ExtensionPolicy.ONE_PLY);
+        return plies;
+    }
+
+    /*
+    Try the captures that could reach the raised beta, first with quiescence and then with a search
+    reduced by the ProbCut reduction; the score of the first one holding above it, else -INFINITY
+    */
+    private int probCut(final BitBoard position, final int depth, final int probBeta, final int staticEval, final int ply) {
+        final MoveList moves = this.moveBuffers[ply];
+        LegalMoveGenerator.generateTacticalMoves(position, moves);
+        this.moveOrdering.scoreMoves(position, moves, BitMove.NO_MOVE, ply, BitMove.NO_MOVE);
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = this.moveOrdering.nextMove(moves, ply, i);
+            if (!StaticExchange.isAtLeast(position, move, probBeta - staticEval)) continue;
+
+            this.lineMoves[ply] = move;
+            this.extensionCarry[ply + 1] = 0;
+            position.makeMove(move);
+            int score = -quiescence(position, -probBeta, -probBeta + 1, ply + 1);
+            if (score >= probBeta) {
+                score = -search(position, depth - 1 - this.parameters.getProbCutReduction(), -probBeta, -probBeta + 1, ply + 1);
+            }
+            position.unmakeMove(move);
+            if (this.stopped) return -INFINITY;
+
+            if (score >= probBeta) {
+                return score;
+            }
+        }
+        return -INFINITY;
+    }
+
+    /*
+    Plies to take off a move already made: only quiet moves and losing captures that do not give check,
+    searched late in a node that is not in check, and never so much that the search drops straight into quiescence
+    */
+    private int lateMoveReduction(final int move, final int depth, final int index, final boolean inCheck,
+                                  final boolean givesCheck, final boolean losingCapture) {
+        if (!this.parameters.isLateMoveReductionEnabled() || inCheck || depth < this.parameters.getLateMoveMinDepth() ||
+            index < this.parameters.getLateMoveFullDepthMoves() || (MoveOrdering.isTactical(move) && !losingCapture) || givesCheck) {
+            return 0;
+        }
+        return Math.min(depth - 2, this.reductions[depth][Math.min(index, MoveList.MAX_MOVES - 1)]);
+    }
+
+    /*
+    Search only captures and promotions. The side to move may stand pat on the static score, except in
+    check where every evasion is searched so mates are still found. Delta pruning skips a capture when even
+    the captured material and a margin cannot lift the score to alpha, and a capture losing material by
+    static exchange is skipped too.
+    */
+    private int quiescence(final BitBoard position, int alpha, final int beta, final int ply) {
+        if (countNode()) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return evaluate(position, 0);
+        }
+
+        final MoveList moves = this.moveBuffers[ply];
+        final boolean inCheck = position.isInCheck();
+        final int standPat;
+        int bestScore;
+
+        if (inCheck) {
+            LegalMoveGenerator.generateMoves(position, moves);
+            if (moves.isEmpty()) {
+                return -(MATE - ply);
+            }
+            standPat = -INFINITY;
+            bestScore = -INFINITY;
+        } else {
+            standPat = evaluate(position, 0);
+            if (standPat >= beta) {
+                return standPat;
+            }
+            if (standPat > alpha) {
+                alpha = standPat;
+            }
+            bestScore = standPat;
+            LegalMoveGenerator.generateTacticalMoves(position, moves);
+        }
+
+        this.moveOrdering.scoreMoves(position, moves, BitMove.NO_MOVE, ply, BitMove.NO_MOVE);
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = this.moveOrdering.nextMove(moves, ply, i);
+            if (!inCheck && (standPat + MoveOrdering.materialGain(position, move) + DELTA_MARGIN <= alpha ||
+                             this.moveOrdering.isLosingCapture(ply, i))) {
+                continue;
+            }
+
+            position.makeMove(move);
+            final int score = -quiescence(position, -beta, -alpha, ply + 1);
+            position.unmakeMove(move);
+            if (this.stopped) return 0;
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+
+        return bestScore;
+    }
+
+    /*Count a node and look at the clock now and then, true once the search has to stop */
+    private boolean countNode() {
+        if ((++this.nodes & (TIME_CHECK_NODES - 1)) == 0 && (this.stopRequested || this.timeManager.isTimeUp())) {
+            this.stopped = true;
+        }
+        return this.stopped;
+    }
+
+    /*A mate score counts from the root in the search and from the node in the table, so it stays right at any ply */
+    private static int scoreToTable(final int score, final int ply) {
+        return score >= MATE_THRESHOLD ? score + ply : score <= -MATE_THRESHOLD ? score - ply : score;
+    }
+
+    private static int scoreFromTable(final int score, final int ply) {
+        return score >= MATE_THRESHOLD ? score - ply : score <= -MATE_THRESHOLD ? score + ply : score;
+    }
+
+    /*The evaluator scores for white, negamax needs the score of the side to move */
+    private int evaluate(final BitBoard position, final int depth) {
+        final int score = this.boardEvaluation.evaluate(position, depth);
+        return position.getSideToMove() == BitBoard.WHITE ? score : -score;
+    }
+
+    /*Search the best move the table remembers first, it is the most likely to cut off */
+    private static void orderHashMove(final long entry, final MoveList moves) {
+        if (entry == TranspositionTable.NO_ENTRY) return;
+        final int hashMove = TranspositionTable.getMove(entry);
+        for (int i = 1; i < moves.size(); ++i) {
+            if (moves.get(i) == hashMove) {
+                moves.swap(0, i);
+                return;
+            }
+        }
+    }
+
+}
@@ -1,9 +1,13 @@
 package SourceCode.Engine.Player.AI;
 
+import SourceCode.Engine.BitBoard.BitBoard;
 import SourceCode.Engine.Board.Board;
 
 public interface BoardEvaluation {
     
     int evaluate(Board board, int depth);
 
+    /*Same score for the mutable search position */
+    int evaluate(BitBoard position, int depth);
+
 }
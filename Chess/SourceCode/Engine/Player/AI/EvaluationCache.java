@@ -0,0 +1,135 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.Board.Board;
+
+/*
+Cache the scores of another evaluation by the Zobrist key of the position, for leaves reached again
+in a later iteration or through another move order. The cache has a fixed size and is shared by the
+search threads without locks like the transposition table: an entry is the key xor the data, then the
+data, and a torn entry does not xor back to its key. The data word packs
+    bits  0 - 31  score
+    bits 32 - 39  depth, the checkmate score depends on it
+    bit  40       set when the score came from a Board, which may be scored apart from its BitBoard
+    bit  41       set in every stored entry
+A slot is always replaced.
+*/
+public class EvaluationCache implements BoardEvaluation {
+
+    public static final int DEFAULT_SIZE_MB = 4;
+
+    private static final long DEPTH_MASK = 0xFFL;
+    private static final long FROM_BOARD = 1L << 40;
+    private static final long STORED = 1L << 41;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int ENTRY_BYTES = ENTRY_LONGS * Long.BYTES;
+    /*Largest power of two entries a Java array can hold */
+    private static final long MAX_ENTRIES = 1L << 29;
+
+    private final BoardEvaluation boardEvaluation;
+    private final int sizeInMB;
+    private final long[] table;
+    private final long entryMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public EvaluationCache(final BoardEvaluation boardEvaluation) {
+        this(boardEvaluation, DEFAULT_SIZE_MB);
+    }
+
+    public EvaluationCache(final BoardEvaluation boardEvaluation, final int sizeInMB) {
+        if (sizeInMB < 1) {
+            throw new IllegalArgumentException("Evaluation cache needs at least 1 MB");
+        }
+        this.boardEvaluation = boardEvaluation;
+        this.sizeInMB = sizeInMB;
+        final long entries = Math.min(Long.highestOneBit(((long) sizeInMB << 20) / ENTRY_BYTES), MAX_ENTRIES);
+        this.table = new long[(int) entries * ENTRY_LONGS];
+        this.entryMask = entries - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        final long key = board.getZobristKey();
+        final long tag = STORED | FROM_BOARD | (depth & DEPTH_MASK) << 32;
+        final int index = entryIndex(key);
+        final long data = this.table[index + 1];
+        if ((data & ~0xFFFFFFFFL) == tag && (this.table[index] ^ data) == key) {
+            this.hits.increment();
+            return (int) data;
+        }
+        this.misses.increment();
+        final int score = this.boardEvaluation.evaluate(board, depth);
+        store(index, key, tag, score);
+        return score;
+    }
+
+    @Override
+    public int evaluate(final BitBoard position, final int depth) {
+        final long key = position.getZobristKey();
+        final long tag = STORED | (depth & DEPTH_MASK) << 32;
+        final int index = entryIndex(key);
+        final long data = this.table[index + 1];
+        if ((data & ~0xFFFFFFFFL) == tag && (this.table[index] ^ data) == key) {
+            this.hits.increment();
+            return (int) data;
+        }
+        this.misses.increment();
+        final int score = this.boardEvaluation.evaluate(position, depth);
+        store(index, key, tag, score);
+        return score;
+    }
+
+    private void store(final int index, final long key, final long tag, final int score) {
+        final long data = tag | (score & 0xFFFFFFFFL);
+        this.table[index] = key ^ data;
+        this.table[index + 1] = data;
+    }
+
+    public BoardEvaluation getBoardEvaluation() {
+        return this.boardEvaluation;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /*Share of the lookups answered from the cache, 0 before the first one */
+    public double getHitRate() {
+        final long hits = getHits();
+        final long lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+    }
+
+    public int getSizeInMB() {
+        return this.sizeInMB;
+    }
+
+    public int getSizeInEntries() {
+        return this.table.length / ENTRY_LONGS;
+    }
+
+    private int entryIndex(final long key) {
+        return (int) (key & this.entryMask) * ENTRY_LONGS;
+    }
+
+}
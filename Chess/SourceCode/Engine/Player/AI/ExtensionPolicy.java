@@ -0,0 +1,119 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+
+/*
+Decide which moves the search follows deeper than the rest. Extensions are counted in fractions of a
+ply, ONE_PLY of them make a whole ply: a move earns at most one ply, and what does not add up to a
+whole ply is carried down the line, so two half extensions on the way extend once. The search also
+stops extending past twice the depth of the iteration, a line of checks cannot run away.
+
+The policy holds any number of extension rules, the defaults are:
+    check, a move that gives check, one ply
+    recapture, taking back on the square the opponent just captured on, half a ply
+    pawn to the 7th, a pawn one step from promoting, half a ply
+The singular extension is not a rule of the move alone: the search extends the hash move when a reduced
+search of every other move fails well below the score the transposition table holds for it.
+*/
+public class ExtensionPolicy {
+
+    public static final int ONE_PLY = 4;
+
+    /*One rule that extends a move, asked right after the move is made */
+    public interface Extension {
+        /*Extension in fractions of ONE_PLY, the position is after the move and the previous move is the one before it */
+        int extend(BitBoard position, int move, int previousMove, boolean givesCheck);
+    }
+
+    private final List<Extension> extensions = new ArrayList<>();
+    /*Singular extension in fractions of ONE_PLY, 0 turns it off */
+    private int singularExtension = ONE_PLY;
+    private int singularMinDepth = 6;
+    /*The other moves must fail this many centipawns per ply of depth below the hash move's score */
+    private int singularMargin = 2;
+
+    /*Check, recapture and pawn to the 7th extensions plus the singular extension */
+    public static ExtensionPolicy defaults() {
+        return new ExtensionPolicy().add(checkExtension(ONE_PLY))
+                                    .add(recaptureExtension(ONE_PLY / 2))
+                                    .add(pawnToSeventhExtension(ONE_PLY / 2));
+    }
+
+    /*No extension at all, every line is searched to the same depth */
+    public static ExtensionPolicy none() {
+        return new ExtensionPolicy().setSingularExtension(0);
+    }
+
+    public static Extension checkExtension(final int fraction) {
+        return (position, move, previousMove, givesCheck) -> givesCheck ? fraction : 0;
+    }
+
+    public static Extension recaptureExtension(final int fraction) {
+        return (position, move, previousMove, givesCheck) ->
+            BitMove.isCapture(move) && previousMove != BitMove.NO_MOVE && BitMove.isCapture(previousMove) &&
+            BitMove.getTo(move) == BitMove.getTo(previousMove) ? fraction : 0;
+    }
+
+    public static Extension pawnToSeventhExtension(final int fraction) {
+        return (position, move, previousMove, givesCheck) -> {
+            final int to = BitMove.getTo(move);
+            final int pieceCode = position.getPieceCode(to);
+            if (pieceCode % 6 != BitBoard.PAWN) return 0;
+            /*Tile 0 is a8: the 7th rank of white is the second row of tiles, the one of black the seventh */
+            final int row = to / 8;
+            return pieceCode / 6 == BitBoard.WHITE ? (row == 1 ? fraction : 0) : (row == 6 ? fraction : 0);
+        };
+    }
+
+    public ExtensionPolicy add(final Extension extension) {
+        this.extensions.add(extension);
+        return this;
+    }
+
+    public int getSingularExtension() {
+        return this.singularExtension;
+    }
+
+    public ExtensionPolicy setSingularExtension(final int singularExtension) {
+        this.singularExtension = singularExtension;
+        return this;
+    }
+
+    public int getSingularMinDepth() {
+        return this.singularMinDepth;
+    }
+
+    public ExtensionPolicy setSingularMinDepth(final int singularMinDepth) {
+        this.singularMinDepth = singularMinDepth;
+        return this;
+    }
+
+    public int getSingularMargin() {
+        return this.singularMargin;
+    }
+
+    public ExtensionPolicy setSingularMargin(final int singularMargin) {
+        this.singularMargin = singularMargin;
+        return this;
+    }
+
+    /*Whether the hash move of a node at the depth is tested for being singular */
+    boolean canExtendSingular(final int depth) {
+        return this.singularExtension > 0 && depth >= this.singularMinDepth;
+    }
+
+    /*Sum of the rules for a move just made, never more than one ply */
+    int extension(final BitBoard position, final int move, final int previousMove, final boolean givesCheck) {
+        int extension = 0;
+        for (final Extension rule: this.extensions) {
+            extension += rule.extend(position, move, previousMove, givesCheck);
+            if (extension >= ONE_PLY) return ONE_PLY;
+        }
+        return extension;
+    }
+
+}
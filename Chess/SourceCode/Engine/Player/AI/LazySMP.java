@@ -0,0 +1,125 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.Move;
+
+/*
+Lazy SMP: several AlphaBeta searches of the same root run at once and only talk through the shared
+transposition table and history tables. The main search keeps the time manager and reports its
+iterations, the helpers have no clock and stop as soon as the main search is done. Every other helper
+starts one ply deeper, so the threads spread over different depths and fill the table with results
+the others pick up. The move of the deepest completed iteration is played, the main search's on a tie.
+*/
+public class LazySMP implements MoveStrategy {
+
+    private final int searchDepth;
+    private final TranspositionTable transpositionTable;
+    private final TimeManager timeManager;
+    private final SearchParameters parameters;
+    private final int threads;
+    private long nodes;
+    private int completedDepth;
+
+    public LazySMP(final int searchDepth, final TranspositionTable transpositionTable, final TimeManager timeManager,
+                   final int threads) {
+        this(searchDepth, transpositionTable, timeManager, SearchParameters.defaults(), threads);
+    }
+
+    public LazySMP(final int searchDepth, final TranspositionTable transpositionTable, final TimeManager timeManager,
+                   final SearchParameters parameters, final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Lazy SMP needs at least one thread");
+        }
+        this.searchDepth = searchDepth;
+        this.transpositionTable = transpositionTable;
+        this.timeManager = timeManager;
+        this.parameters = parameters;
+        this.threads = threads;
+    }
+
+    @Override
+    public String toString() {
+        return "LazySMP";
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /*Nodes visited by all the threads of the last search */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /*Depth of the iteration the played move came from */
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        this.transpositionTable.newSearch();
+        System.out.println(board.currentPlayer() + " Thinking with depth = " + this.searchDepth + " threads = " + this.threads);
+
+        final BitBoard position = BitBoard.fromBoard(board);
+        final AlphaBeta main = new AlphaBeta(this.searchDepth, this.transpositionTable, this.timeManager, this.parameters);
+        final List<AlphaBeta> helpers = new ArrayList<>();
+        for (int i = 1; i < this.threads; ++i) {
+            helpers.add(new AlphaBeta(this.searchDepth, this.transpositionTable, TimeManager.unlimited(), this.parameters,
+                                      new MoveOrdering(AlphaBeta.MAX_PLY, main.getMoveOrdering())));
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final ExecutorService executor = helpers.isEmpty() ? null : Executors.newFixedThreadPool(helpers.size());
+        final List<Future<Integer>> results = new ArrayList<>();
+        int bestMove;
+        try {
+            for (int i = 0; i < helpers.size(); ++i) {
+                final AlphaBeta helper = helpers.get(i);
+                final BitBoard helperPosition = position.copy();
+                final int firstDepth = 1 + (i + 1) % 2;
+                results.add(executor.submit(() -> helper.searchPosition(helperPosition, firstDepth, false)));
+            }
+            bestMove = main.searchPosition(position, 1, true);
+            this.completedDepth = main.getCompletedDepth();
+            this.nodes = main.getNodes();
+
+            for (final AlphaBeta helper: helpers) {
+                helper.stop();
+            }
+            for (int i = 0; i < results.size(); ++i) {
+                final int helperMove = results.get(i).get();
+                final AlphaBeta helper = helpers.get(i);
+                this.nodes += helper.getNodes();
+                if (helper.getCompletedDepth() > this.completedDepth && helperMove != BitMove.NO_MOVE) {
+                    this.completedDepth = helper.getCompletedDepth();
+                    bestMove = helperMove;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Lazy SMP search interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("Lazy SMP search failed", e.getCause());
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        final long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        System.out.println(this + " threads " + this.threads + " depth " + this.completedDepth + " nodes " + this.nodes +
+                           " nps " + this.nodes * 1000 / elapsed + " best " + BitMove.toString(bestMove));
+        return bestMove == BitMove.NO_MOVE ? Move.NULL_MOVE : BitMove.toMove(board, bestMove);
+    }
+
+}
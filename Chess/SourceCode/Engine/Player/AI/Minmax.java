@@ -1,17 +1,42 @@
 package SourceCode.Engine.Player.AI;
 
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
+import SourceCode.Engine.BitBoard.MoveList;
 import SourceCode.Engine.Board.Board;
 import SourceCode.Engine.Board.Move;
-import SourceCode.Engine.Player.MoveTransition;
 
+/*
+Plain minmax search. The tree is walked on one mutable BitBoard with makeMove/unmakeMove over
+fully legal moves, only the chosen root move is turned back into a Move of the immutable Board.
+Every node searched is stored in the transposition table, so a position reached again through
+another move order is answered from the table when it was searched to the same depth. A deeper entry
+is not used: its minmax value can differ from the one at this depth and would change the move played.
+A node without a legal move is scored by the evaluation, on either side to move. The leaves are scored
+through an evaluation cache, a leaf reached again is not evaluated twice.
+*/
 public class Minmax implements MoveStrategy{
 
     private final BoardEvaluation boardEvaluation;
     private final int searchDepth;
+    /*One move buffer per ply, reused for every node at that ply */
+    private final MoveList[] moveBuffers;
+    private final TranspositionTable transpositionTable;
 
     public Minmax(final int searchDepth) {
-        this.boardEvaluation = new StandardBoardEvaluator();
-        this.searchDepth = searchDepth;
+        this(searchDepth, new TranspositionTable());
+    }
+
+    public Minmax(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, new EvaluationCache(new StandardBoardEvaluator()));
+    }
+
+    public Minmax(final int searchDepth, final TranspositionTable transpositionTable, final BoardEvaluation boardEvaluation) {
+        this.boardEvaluation = boardEvaluation;
+        this.searchDepth = Math.max(1, Math.min(searchDepth, AlphaBeta.MAX_PLY - 1));
+        this.moveBuffers = MoveList.createPlyBuffers(this.searchDepth);
+        this.transpositionTable = transpositionTable;
     } 
 
     @Override
@@ -23,75 +48,101 @@ public class Minmax implements MoveStrategy{
     public Move execute(Board board) {
         
         final long startTime = System.currentTimeMillis();
-        Move bestMove = null;
+        final BitBoard position = BitBoard.fromBoard(board);
+        final boolean isWhite = board.currentPlayer().getPlayerColor().isWhite();
+        int bestMove = BitMove.NO_MOVE;
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
         int currentValue;
-        int numMoves = board.currentPlayer().getLegalMoves().size();
 
         System.out.println(board.currentPlayer() + " Thinking with depth = " + this.searchDepth);
-
-        for (final Move move: board.currentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                currentValue = board.currentPlayer().getPlayerColor().isWhite() ? 
-                            min(moveTransition.getTransitionBoard(), this.searchDepth - 1) :
-                            max(moveTransition.getTransitionBoard(), this.searchDepth - 1);
+        this.transpositionTable.newSearch();
+
+        final MoveList moves = this.moveBuffers[0];
+        LegalMoveGenerator.generateMoves(position, moves);
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            currentValue = isWhite ? 
+                        min(position, this.searchDepth - 1) :
+                        max(position, this.searchDepth - 1);
+            position.unmakeMove(move);
                 
-                if (board.currentPlayer().getPlayerColor().isWhite() && currentValue >= highestSeenValue) {
-                    highestSeenValue = currentValue;
-                    bestMove = move;
-                } else if (board.currentPlayer().getPlayerColor().isBlack() && currentValue <= lowestSeenValue) {
-                    lowestSeenValue = currentValue;
-                    bestMove = move;
-                }
+            if (isWhite && currentValue >= highestSeenValue) {
+                highestSeenValue = currentValue;
+                bestMove = move;
+            } else if (!isWhite && currentValue <= lowestSeenValue) {
+                lowestSeenValue = currentValue;
+                bestMove = move;
             }
         }
 
         final long executionTime = System.currentTimeMillis() - startTime;
 
-        return bestMove;
+        return bestMove == BitMove.NO_MOVE ? Move.NULL_MOVE :
+               BitMove.toMove(board, bestMove);
     }
 
-    public int min(final Board board, final int depth) {
-        if (depth == 0) {
-            return this.boardEvaluation.evaluate(board, depth);
+    public int min(final BitBoard position, final int depth) {
+        if (depth <= 0 || isEndGameBoard(position)) {
+            return this.boardEvaluation.evaluate(position, depth);
         } 
 
-        int lowestSeenValue = Integer.MAX_VALUE;
+        final long entry = this.transpositionTable.probe(position.getZobristKey());
+        if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) == depth) {
+            return TranspositionTable.getScore(entry);
+        }
 
-        for (final Move move: board.currentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = max(moveTransition.getTransitionBoard(), depth - 1);
-                if (currentValue <= lowestSeenValue) {
-                    lowestSeenValue  = currentValue;
-                }
+        int lowestSeenValue = Integer.MAX_VALUE;
+        int bestMove = BitMove.NO_MOVE;
+
+        final MoveList moves = this.moveBuffers[this.searchDepth - depth];
+        LegalMoveGenerator.generateMoves(position, moves);
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            final int currentValue = max(position, depth - 1);
+            position.unmakeMove(move);
+            if (currentValue <= lowestSeenValue) {
+                lowestSeenValue  = currentValue;
+                bestMove = move;
             }
         }
+        this.transpositionTable.store(position.getZobristKey(), depth, lowestSeenValue, TranspositionTable.EXACT, bestMove);
         return lowestSeenValue;
     }
 
-    private static boolean isEndGameBoard(final Board board) {
-        return board.currentPlayer().isInCheckmate() || board.currentPlayer().isInStalemate();
+    private static boolean isEndGameBoard(final BitBoard position) {
+        return !LegalMoveGenerator.hasLegalMove(position);
     }
 
-    public int max(final Board board, final int depth) {
-        if (depth == 0 || isEndGameBoard(board)) {
-            return this.boardEvaluation.evaluate(board, depth);
+    public int max(final BitBoard position, final int depth) {
+        if (depth <= 0 || isEndGameBoard(position)) {
+            return this.boardEvaluation.evaluate(position, depth);
         } 
 
-        int highestSeenValue = Integer.MIN_VALUE;
+        final long entry = this.transpositionTable.probe(position.getZobristKey());
+        if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) == depth) {
+            return TranspositionTable.getScore(entry);
+        }
 
-        for (final Move move: board.currentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = min(moveTransition.getTransitionBoard(), depth - 1);
-                if (currentValue >= highestSeenValue) {
-                    highestSeenValue  = currentValue;
-                }
+        int highestSeenValue = Integer.MIN_VALUE;
+        int bestMove = BitMove.NO_MOVE;
+
+        final MoveList moves = this.moveBuffers[this.searchDepth - depth];
+        LegalMoveGenerator.generateMoves(position, moves);
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            final int currentValue = min(position, depth - 1);
+            position.unmakeMove(move);
+            if (currentValue >= highestSeenValue) {
+                highestSeenValue  = currentValue;
+                bestMove = move;
             }
         }
+        this.transpositionTable.store(position.getZobristKey(), depth, highestSeenValue, TranspositionTable.EXACT, bestMove);
         return highestSeenValue;
     }
 
@@ -0,0 +1,185 @@
+package SourceCode.Engine.Player.AI;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.BitBoard.MoveList;
+import SourceCode.Engine.BitBoard.StaticExchange;
+import SourceCode.Engine.Pieces.Piece.PieceType;
+
+/*
+Order the moves of a node so the one most likely to cut off is searched first:
+    the hash move of the transposition table
+    captures and promotions that do not lose material by static exchange, most valuable victim first
+    and then least valuable attacker (MVV-LVA)
+    the two killer moves of the ply, quiet moves that cut off in a sibling node
+    the countermove, the quiet move that last refuted the opponent's previous move
+    the other quiet moves by their history score, how often and how deep they cut off before
+    the captures losing material, last of all
+Moves are scored once and picked one at a time, a node that cuts off early never sorts the rest.
+The killers belong to one search thread. The history and countermove tables may be shared by the
+threads of a parallel search: they are only hints, so their unsynchronized updates are harmless.
+*/
+public class MoveOrdering {
+
+    private static final int HASH_MOVE_SCORE = 100000000;
+    private static final int CAPTURE_SCORE = 10000000;
+    private static final int FIRST_KILLER_SCORE = 9000000;
+    private static final int SECOND_KILLER_SCORE = 8000000;
+    private static final int COUNTER_MOVE_SCORE = 7000000;
+    /*Below every quiet move, history scores never go negative */
+    private static final int LOSING_CAPTURE_SCORE = -CAPTURE_SCORE;
+    /*History scores are halved once one reaches this, so they stay below the countermove */
+    private static final int HISTORY_LIMIT = 1000000;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private final int[][] scoreBuffers;
+    private final int[][] killers;
+    private final int[][][] history;
+    private final int[][] counterMoves;
+    /*Only the owner of shared tables ages them at a new search */
+    private final boolean ownsHistory;
+
+    public MoveOrdering(final int maxPly) {
+        this.scoreBuffers = new int[maxPly][MoveList.MAX_MOVES];
+        this.killers = new int[maxPly][2];
+        this.history = new int[2][64][64];
+        this.counterMoves = new int[64][64];
+        this.ownsHistory = true;
+    }
+
+    /*Own killers, the history and countermoves of the other ordering */
+    public MoveOrdering(final int maxPly, final MoveOrdering shared) {
+        this.scoreBuffers = new int[maxPly][MoveList.MAX_MOVES];
+        this.killers = new int[maxPly][2];
+        this.history = shared.history;
+        this.counterMoves = shared.counterMoves;
+        this.ownsHistory = false;
+    }
+
+    /*Killers only hold for the position they came from, history and countermoves fade but carry over */
+    public void newSearch() {
+        for (final int[] plyKillers: this.killers) {
+            plyKillers[0] = BitMove.NO_MOVE;
+            plyKillers[1] = BitMove.NO_MOVE;
+        }
+        if (this.ownsHistory) {
+            ageHistory();
+        }
+    }
+
+    public void scoreMoves(final BitBoard position, final MoveList moves, final int hashMove,
+                           final int ply, final int previousMove) {
+        final int[] scores = this.scoreBuffers[ply];
+        final int[] plyKillers = this.killers[ply];
+        final int counterMove = previousMove == BitMove.NO_MOVE ? BitMove.NO_MOVE
+                                                                : this.counterMoves[BitMove.getFrom(previousMove)][BitMove.getTo(previousMove)];
+        final int[][] sideHistory = this.history[position.getSideToMove()];
+
+        for (int i = 0; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            if (move == hashMove) {
+                scores[i] = HASH_MOVE_SCORE;
+            } else if (isTactical(move)) {
+                scores[i] = (StaticExchange.isAtLeast(position, move, 0) ? CAPTURE_SCORE : LOSING_CAPTURE_SCORE) +
+                            captureScore(position, move);
+            } else if (move == plyKillers[0]) {
+                scores[i] = FIRST_KILLER_SCORE;
+            } else if (move == plyKillers[1]) {
+                scores[i] = SECOND_KILLER_SCORE;
+            } else if (move == counterMove) {
+                scores[i] = COUNTER_MOVE_SCORE;
+            } else {
+                scores[i] = sideHistory[BitMove.getFrom(move)][BitMove.getTo(move)];
+            }
+        }
+    }
+
+    /*Move the best scored of the moves not searched yet to the index and return it */
+    public int nextMove(final MoveList moves, final int ply, final int index) {
+        final int[] scores = this.scoreBuffers[ply];
+        int best = index;
+        for (int i = index + 1; i < moves.size(); ++i) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            moves.swap(index, best);
+            final int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(index);
+    }
+
+    /*Whether the move picked at the index is a capture or promotion that loses material by static exchange */
+    public boolean isLosingCapture(final int ply, final int index) {
+        return this.scoreBuffers[ply][index] < 0;
+    }
+
+    /*
+    A quiet move cut off: it becomes a killer of the ply and the countermove of the previous move,
+    its history grows and the quiet moves searched before it, which did not cut off, lose history.
+    Only the first searchedCount entries of searchedQuiets are read, moves pruned unsearched are not in them
+    */
+    public void updateQuietCutoff(final BitBoard position, final int move, final int[] searchedQuiets, final int searchedCount,
+                                  final int depth, final int ply, final int previousMove) {
+        final int[] plyKillers = this.killers[ply];
+        if (plyKillers[0] != move) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = move;
+        }
+        if (previousMove != BitMove.NO_MOVE) {
+            this.counterMoves[BitMove.getFrom(previousMove)][BitMove.getTo(previousMove)] = move;
+        }
+
+        final int[][] sideHistory = this.history[position.getSideToMove()];
+        final int bonus = depth * depth;
+        sideHistory[BitMove.getFrom(move)][BitMove.getTo(move)] += bonus;
+        for (int i = 0; i < searchedCount; ++i) {
+            final int quiet = searchedQuiets[i];
+            final int[] from = sideHistory[BitMove.getFrom(quiet)];
+            from[BitMove.getTo(quiet)] = Math.max(0, from[BitMove.getTo(quiet)] - bonus);
+        }
+        if (sideHistory[BitMove.getFrom(move)][BitMove.getTo(move)] >= HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    /*Captures and promotions, ordered by MVV-LVA and kept out of the quiet move tables */
+    public static boolean isTactical(final int move) {
+        return BitMove.isCapture(move) || BitMove.isPromotion(move);
+    }
+
+    /*Victim value first, the attacker only breaks ties, a promotion counts the piece it becomes */
+    private static int captureScore(final BitBoard position, final int move) {
+        final int attacker = PIECE_TYPES[position.getPieceCode(BitMove.getFrom(move)) % 6].getPieceValue();
+        return materialGain(position, move) * 16 - attacker / 100;
+    }
+
+    /*Material a tactical move wins before any recapture: the victim, plus the piece a promotion becomes over the pawn */
+    public static int materialGain(final BitBoard position, final int move) {
+        int gain = 0;
+        if (BitMove.getFlag(move) == BitMove.EN_PASSANT) {
+            gain = PieceType.Pawn.getPieceValue();
+        } else if (BitMove.isCapture(move)) {
+            gain = PIECE_TYPES[position.getPieceCode(BitMove.getTo(move)) % 6].getPieceValue();
+        }
+        if (BitMove.isPromotion(move)) {
+            gain += PIECE_TYPES[BitMove.getPromotionType(move)].getPieceValue() - PieceType.Pawn.getPieceValue();
+        }
+        return gain;
+    }
+
+    private void ageHistory() {
+        for (final int[][] sideHistory: this.history) {
+            for (final int[] from: sideHistory) {
+                for (int to = 0; to < from.length; ++to) {
+                    from[to] >>= 1;
+                }
+            }
+        }
+    }
+
+}
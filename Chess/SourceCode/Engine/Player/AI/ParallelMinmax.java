@@ -0,0 +1,253 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMove;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
+import SourceCode.Engine.BitBoard.MoveList;
+import SourceCode.Engine.Board.Board;
+import SourceCode.Engine.Board.Move;
+
+/*
+Minmax on a ForkJoinPool with the young brothers wait rule: the first move of a node is searched
+serially, and only once its value is known are the other moves forked as RecursiveTasks on their own
+copies of the position. White maximizes and black minimizes with alpha-beta bounds, a forked move
+that falls outside the window of its node aborts the split, and every search below it, its siblings
+included, gives up at its next node.
+
+Alpha-beta returns the minmax value of every root move that can still be the best one, and the root
+keeps the serial tie rule of Minmax (the last of equal moves wins). Nothing is shared between the
+threads but the abort flags.
+*/
+public class ParallelMinmax implements MoveStrategy {
+
+    /*Nodes with less depth left are searched serially, forking them costs more than it saves */
+    private static final int MIN_SPLIT_DEPTH = 2;
+
+    private final BoardEvaluation boardEvaluation;
+    private final int searchDepth;
+    private final int parallelism;
+
+    public ParallelMinmax(final int searchDepth) {
+        this(searchDepth, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelMinmax(final int searchDepth, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallel minmax needs at least one thread");
+        }
+        this.boardEvaluation = new StandardBoardEvaluator();
+        this.searchDepth = Math.max(1, Math.min(searchDepth, AlphaBeta.MAX_PLY - 1));
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelMinmax";
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final long startTime = System.currentTimeMillis();
+        System.out.println(board.currentPlayer() + " Thinking with depth = " + this.searchDepth +
+                           " parallelism = " + this.parallelism);
+
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            final int bestMove = pool.invoke(new RootTask(BitBoard.fromBoard(board)));
+            System.out.println(this + " time " + (System.currentTimeMillis() - startTime) + " ms best " + BitMove.toString(bestMove));
+            return bestMove == BitMove.NO_MOVE ? Move.NULL_MOVE : BitMove.toMove(board, bestMove);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /*
+    The first root move gets the full window, the others are forked together with a window that only
+    lets a move at least as good as the first one come back exact. Their results are read in move order
+    with the Minmax tie rule
+    */
+    private class RootTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BitBoard position;
+
+        RootTask(final BitBoard position) {
+            this.position = position;
+        }
+
+        @Override
+        protected Integer compute() {
+            final boolean isWhite = this.position.getSideToMove() == BitBoard.WHITE;
+            final MoveList moves = new MoveList();
+            LegalMoveGenerator.generateMoves(this.position, moves);
+            if (moves.isEmpty()) {
+                return BitMove.NO_MOVE;
+            }
+
+            final int firstMove = moves.get(0);
+            this.position.makeMove(firstMove);
+            int bestValue = search(this.position, searchDepth - 1, Long.MIN_VALUE, Long.MAX_VALUE,
+                                   null, MoveList.createPlyBuffers(Math.max(searchDepth, 1)));
+            this.position.unmakeMove(firstMove);
+            int bestMove = firstMove;
+
+            final long alpha = isWhite ? (long) bestValue - 1 : Long.MIN_VALUE;
+            final long beta = isWhite ? Long.MAX_VALUE : (long) bestValue + 1;
+            final List<NodeTask> tasks = forkMoves(this.position, moves, 1, searchDepth - 1, alpha, beta, isWhite, new SplitPoint(null));
+            for (int i = 0; i < tasks.size(); ++i) {
+                final int value = tasks.get(i).join();
+                if (isWhite ? value >= bestValue : value <= bestValue) {
+                    bestValue = value;
+                    bestMove = moves.get(i + 1);
+                }
+            }
+            return bestMove;
+        }
+    }
+
+    /*Search of one forked move, it aborts the split when its value cuts the parent node off */
+    private class NodeTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BitBoard position;
+        private final int depth;
+        private final long alpha;
+        private final long beta;
+        private final boolean parentMaximizing;
+        private final SplitPoint split;
+        /*False when the split was aborted before the search finished, the value is meaningless then */
+        private boolean valid;
+
+        NodeTask(final BitBoard position, final int depth, final long alpha, final long beta,
+                 final boolean parentMaximizing, final SplitPoint split) {
+            this.position = position;
+            this.depth = depth;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.parentMaximizing = parentMaximizing;
+            this.split = split;
+        }
+
+        @Override
+        protected Integer compute() {
+            final int value = search(this.position, this.depth, this.alpha, this.beta, this.split,
+                                     MoveList.createPlyBuffers(this.depth + 1));
+            this.valid = !this.split.isAborted();
+            if (this.valid && (this.parentMaximizing ? value >= this.beta : value <= this.alpha)) {
+                this.split.abort();
+            }
+            return value;
+        }
+    }
+
+    /*A node whose moves were forked, aborting it aborts every search below it */
+    private static class SplitPoint {
+
+        private final SplitPoint parent;
+        private volatile boolean aborted;
+
+        SplitPoint(final SplitPoint parent) {
+            this.parent = parent;
+        }
+
+        void abort() {
+            this.aborted = true;
+        }
+
+        boolean isAborted() {
+            for (SplitPoint splitPoint = this; splitPoint != null; splitPoint = splitPoint.parent) {
+                if (splitPoint.aborted) return true;
+            }
+            return false;
+        }
+    }
+
+    /*Fork a task for every move from the index on, each on its own copy of the position after the move */
+    private List<NodeTask> forkMoves(final BitBoard position, final MoveList moves, final int fromIndex, final int depth,
+                                     final long alpha, final long beta, final boolean maximizing, final SplitPoint split) {
+        final List<NodeTask> tasks = new ArrayList<>();
+        for (int i = fromIndex; i < moves.size(); ++i) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            tasks.add(new NodeTask(position.copy(), depth, alpha, beta, maximizing, split));
+            position.unmakeMove(move);
+        }
+        ForkJoinTask.invokeAll(tasks);
+        return tasks;
+    }
+
+    /*
+    Fail-soft alpha-beta on minmax values: white to move maximizes, black minimizes. The buffers are
+    indexed by the depth left, the value is meaningless once the split the node belongs to is aborted
+    */
+    private int search(final BitBoard position, final int depth, long alpha, long beta,
+                       final SplitPoint split, final MoveList[] buffers) {
+        final boolean maximizing = position.getSideToMove() == BitBoard.WHITE;
+        /*A position without moves is scored by the evaluation on either side, as in Minmax */
+        if (depth <= 0 || !LegalMoveGenerator.hasLegalMove(position)) {
+            return this.boardEvaluation.evaluate(position, depth);
+        }
+        if (split != null && split.isAborted()) {
+            return 0;
+        }
+
+        final MoveList moves = buffers[depth];
+        LegalMoveGenerator.generateMoves(position, moves);
+        orderCaptures(moves);
+        int bestValue = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        for (int i = 0; i < moves.size(); ++i) {
+            /*Young brothers wait: once the eldest move has a value, the rest may run in parallel */
+            if (i == 1 && depth >= MIN_SPLIT_DEPTH) {
+                final SplitPoint childSplit = new SplitPoint(split);
+                final List<NodeTask> tasks = forkMoves(position, moves, 1, depth - 1, alpha, beta, maximizing, childSplit);
+                if (split != null && split.isAborted()) {
+                    return 0;
+                }
+                for (final NodeTask task: tasks) {
+                    if (!task.valid) continue;
+                    final int value = task.join();
+                    bestValue = maximizing ? Math.max(bestValue, value) : Math.min(bestValue, value);
+                }
+                return bestValue;
+            }
+
+            final int move = moves.get(i);
+            position.makeMove(move);
+            final int value = search(position, depth - 1, alpha, beta, split, buffers);
+            position.unmakeMove(move);
+            if (split != null && split.isAborted()) {
+                return 0;
+            }
+
+            if (maximizing) {
+                bestValue = Math.max(bestValue, value);
+                alpha = Math.max(alpha, bestValue);
+            } else {
+                bestValue = Math.min(bestValue, value);
+                beta = Math.min(beta, bestValue);
+            }
+            if (alpha >= beta) break;
+        }
+        return bestValue;
+    }
+
+    /*Captures and promotions first, they cut off most often; the order does not change the value */
+    private static void orderCaptures(final MoveList moves) {
+        int front = 0;
+        for (int i = 0; i < moves.size(); ++i) {
+            if (MoveOrdering.isTactical(moves.get(i))) {
+                moves.swap(front++, i);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Fixed-size cache of pawn structure scores keyed by the pawn-only Zobrist key, shared by the search
+threads without locks in the same way as the transposition table: an entry is the key xor the data,
+then the data, and a torn entry does not xor back to its key. The data word packs
+    bits  0 - 15  endgame score
+    bits 16 - 31  middlegame score
+    bit  32       set in every stored entry, so stored data is never NO_ENTRY
+A slot is always replaced.
+*/
+public class PawnHashTable {
+
+    public static final int DEFAULT_SIZE_MB = 1;
+
+    /*Value of probe when the structure is not in the table */
+    public static final long NO_ENTRY = 0L;
+
+    private static final long STORED = 1L << 32;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int ENTRY_BYTES = ENTRY_LONGS * Long.BYTES;
+    /*Largest power of two entries a Java array can hold */
+    private static final long MAX_ENTRIES = 1L << 29;
+
+    private final int sizeInMB;
+    private final long[] table;
+    private final long entryMask;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public PawnHashTable(final int sizeInMB) {
+        if (sizeInMB < 1) {
+            throw new IllegalArgumentException("Pawn hash table needs at least 1 MB");
+        }
+        this.sizeInMB = sizeInMB;
+        final long entries = Math.min(Long.highestOneBit(((long) sizeInMB << 20) / ENTRY_BYTES), MAX_ENTRIES);
+        this.table = new long[(int) entries * ENTRY_LONGS];
+        this.entryMask = entries - 1;
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    public PawnHashTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    /*Data word of the pawn structure, or NO_ENTRY */
+    public long probe(final long pawnKey) {
+        this.probes.increment();
+        final int index = entryIndex(pawnKey);
+        final long data = this.table[index + 1];
+        if (data == NO_ENTRY || (this.table[index] ^ data) != pawnKey) {
+            return NO_ENTRY;
+        }
+        this.hits.increment();
+        return data;
+    }
+
+    public void store(final long pawnKey, final int middlegameScore, final int endgameScore) {
+        final int index = entryIndex(pawnKey);
+        final long data = pack(middlegameScore, endgameScore);
+        this.table[index] = pawnKey ^ data;
+        this.table[index + 1] = data;
+    }
+
+    private static long pack(final int middlegameScore, final int endgameScore) {
+        return STORED | ((middlegameScore & 0xFFFFL) << 16) | (endgameScore & 0xFFFFL);
+    }
+
+    public static int getMiddlegameScore(final long data) {
+        return (short) (data >>> 16);
+    }
+
+    public static int getEndgameScore(final long data) {
+        return (short) data;
+    }
+
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /*Share of the probes that found their structure, 0 before the first probe */
+    public double getHitRate() {
+        final long probes = getProbes();
+        return probes == 0 ? 0 : (double) getHits() / probes;
+    }
+
+    public void resetStatistics() {
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    public int getSizeInMB() {
+        return this.sizeInMB;
+    }
+
+    public int getSizeInEntries() {
+        return this.table.length / ENTRY_LONGS;
+    }
+
+    private int entryIndex(final long pawnKey) {
+        return (int) (pawnKey & this.entryMask) * ENTRY_LONGS;
+    }
+
+}
@@ -0,0 +1,162 @@
+package SourceCode.Engine.Player.AI;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitBoardUtility;
+import SourceCode.Engine.BitBoard.PieceSquareTables;
+import SourceCode.Engine.Board.Board;
+
+/*
+Add pawn structure to another evaluation: doubled, isolated and backward pawns lose, passed pawns
+gain more the further they are, in the middlegame and the endgame alike. The structure only depends on
+the pawns, so its score is cached in a pawn hash table under the pawn-only key and computed again only
+when the pawns change. The pawn shield in front of each king also needs the king, it is a few mask
+operations and is added outside the cache. Both are tapered by the game phase.
+*/
+public class PawnStructureEvaluator implements BoardEvaluation {
+
+    private static final int DOUBLED_MIDDLEGAME = -10;
+    private static final int DOUBLED_ENDGAME = -20;
+    private static final int ISOLATED_MIDDLEGAME = -10;
+    private static final int ISOLATED_ENDGAME = -15;
+    private static final int BACKWARD_MIDDLEGAME = -8;
+    private static final int BACKWARD_ENDGAME = -10;
+    /*Indexed by the rank from the pawn's own side, 0 is its first rank */
+    private static final int[] PASSED_MIDDLEGAME = {0, 5, 10, 20, 35, 60, 100, 0};
+    private static final int[] PASSED_ENDGAME = {0, 10, 20, 40, 70, 120, 200, 0};
+    /*For each own pawn on the king's and the neighbouring files one or two rows in front of it, middlegame only */
+    private static final int SHIELD_BONUS = 15;
+
+    private static final long[] FILES = new long[8];
+    private static final long[] ADJACENT_FILES = new long[8];
+    /*Tiles on the pawn's and the neighbouring files in front of it, an enemy pawn there stops it from passing */
+    private static final long[][] PASSED_MASKS = new long[2][64];
+    /*Tiles on the neighbouring files level with or behind the pawn, where its supporting pawns stand */
+    private static final long[][] SUPPORT_MASKS = new long[2][64];
+    /*The king's and the neighbouring files one and two rows in front of it */
+    private static final long[][] SHIELD_MASKS = new long[2][64];
+
+    static {
+        for (int file = 0; file < 8; ++file) {
+            FILES[file] = BitBoardUtility.FILE_A << file;
+        }
+        for (int file = 0; file < 8; ++file) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0L) | (file < 7 ? FILES[file + 1] : 0L);
+        }
+        for (int square = 0; square < 64; ++square) {
+            final int row = square / 8;
+            final int file = square % 8;
+            final long files = FILES[file] | ADJACENT_FILES[file];
+            for (int other = 0; other < 64; ++other) {
+                final int otherRow = other / 8;
+                final long bit = 1L << other;
+                /*Tile 0 is a8: white moves to lower rows, black to higher ones */
+                if ((files & bit) != 0 && otherRow < row) PASSED_MASKS[BitBoard.WHITE][square] |= bit;
+                if ((files & bit) != 0 && otherRow > row) PASSED_MASKS[BitBoard.BLACK][square] |= bit;
+                if ((ADJACENT_FILES[file] & bit) != 0 && otherRow >= row) SUPPORT_MASKS[BitBoard.WHITE][square] |= bit;
+                if ((ADJACENT_FILES[file] & bit) != 0 && otherRow <= row) SUPPORT_MASKS[BitBoard.BLACK][square] |= bit;
+                if ((files & bit) != 0 && otherRow < row && otherRow >= row - 2) SHIELD_MASKS[BitBoard.WHITE][square] |= bit;
+                if ((files & bit) != 0 && otherRow > row && otherRow <= row + 2) SHIELD_MASKS[BitBoard.BLACK][square] |= bit;
+            }
+        }
+    }
+
+    private final BoardEvaluation boardEvaluation;
+    private final PawnHashTable pawnHashTable;
+
+    public PawnStructureEvaluator(final BoardEvaluation boardEvaluation) {
+        this(boardEvaluation, new PawnHashTable());
+    }
+
+    public PawnStructureEvaluator(final BoardEvaluation boardEvaluation, final PawnHashTable pawnHashTable) {
+        this.boardEvaluation = boardEvaluation;
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return this.pawnHashTable;
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        return this.boardEvaluation.evaluate(board, depth) + pawnScore(BitBoard.fromBoard(board));
+    }
+
+    @Override
+    public int evaluate(final BitBoard position, final int depth) {
+        return this.boardEvaluation.evaluate(position, depth) + pawnScore(position);
+    }
+
+    /*Pawn structure and king shields for white minus for black, tapered */
+    private int pawnScore(final BitBoard position) {
+        final long pawnKey = position.getPawnKey();
+        final long data = this.pawnHashTable.probe(pawnKey);
+        int middlegame;
+        int endgame;
+        if (data != PawnHashTable.NO_ENTRY) {
+            middlegame = PawnHashTable.getMiddlegameScore(data);
+            endgame = PawnHashTable.getEndgameScore(data);
+        } else {
+            final long whitePawns = position.getPieces(BitBoard.WHITE, BitBoard.PAWN);
+            final long blackPawns = position.getPieces(BitBoard.BLACK, BitBoard.PAWN);
+            middlegame = 0;
+            endgame = 0;
+            for (int color = BitBoard.WHITE; color <= BitBoard.BLACK; ++color) {
+                final long own = color == BitBoard.WHITE ? whitePawns : blackPawns;
+                final long enemy = color == BitBoard.WHITE ? blackPawns : whitePawns;
+                final int sign = color == BitBoard.WHITE ? 1 : -1;
+                final int[] terms = structure(color, own, enemy);
+                middlegame += sign * terms[0];
+                endgame += sign * terms[1];
+            }
+            this.pawnHashTable.store(pawnKey, middlegame, endgame);
+        }
+
+        middlegame += SHIELD_BONUS * (shield(position, BitBoard.WHITE) - shield(position, BitBoard.BLACK));
+        return PieceSquareTables.taper(middlegame, endgame, position.getPhase());
+    }
+
+    /*Middlegame and endgame score of one side's pawns */
+    private static int[] structure(final int color, final long own, final long enemy) {
+        int middlegame = 0;
+        int endgame = 0;
+
+        for (int file = 0; file < 8; ++file) {
+            final int onFile = Long.bitCount(own & FILES[file]);
+            if (onFile > 1) {
+                middlegame += DOUBLED_MIDDLEGAME * (onFile - 1);
+                endgame += DOUBLED_ENDGAME * (onFile - 1);
+            }
+        }
+
+        for (long pawns = own; pawns != 0; pawns &= pawns - 1) {
+            final int square = Long.numberOfTrailingZeros(pawns);
+            final int file = square % 8;
+
+            if ((own & ADJACENT_FILES[file]) == 0) {
+                middlegame += ISOLATED_MIDDLEGAME;
+                endgame += ISOLATED_ENDGAME;
+            } else if ((own & SUPPORT_MASKS[color][square]) == 0) {
+                /*Nothing can support it and the tile in front is held by an enemy pawn */
+                final long stop = BitBoardUtility.pawnPushes(color, square);
+                if (stop != 0 && (BitBoardUtility.pawnAttacks(color, Long.numberOfTrailingZeros(stop)) & enemy) != 0) {
+                    middlegame += BACKWARD_MIDDLEGAME;
+                    endgame += BACKWARD_ENDGAME;
+                }
+            }
+
+            if ((enemy & PASSED_MASKS[color][square]) == 0) {
+                final int rank = color == BitBoard.WHITE ? 7 - square / 8 : square / 8;
+                middlegame += PASSED_MIDDLEGAME[rank];
+                endgame += PASSED_ENDGAME[rank];
+            }
+        }
+        return new int[] {middlegame, endgame};
+    }
+
+    /*Own pawns in front of the king, at most three count */
+    private static int shield(final BitBoard position, final int color) {
+        final int kingSquare = position.getKingSquare(color);
+        return Math.min(3, Long.bitCount(position.getPieces(color, BitBoard.PAWN) & SHIELD_MASKS[color][kingSquare]));
+    }
+
+}
@@ -0,0 +1,267 @@
+package SourceCode.Engine.Player.AI;
+
+/*
+Tunable settings of the AlphaBeta search: the evaluation it scores leaves with and its selective parts.
+The setters return the parameters so they chain like the Board builder; a search reads them once when
+it is created. The evaluation is shared by every search created from the same parameters, and by
+default sits behind an evaluation cache that all of them fill.
+*/
+public class SearchParameters {
+
+    private BoardEvaluation boardEvaluation = new EvaluationCache(new PawnStructureEvaluator(new TaperedBoardEvaluator()));
+
+    /*Null move pruning: give the opponent a free move, if a reduced search still fails high the node is cut */
+    private boolean nullMoveEnabled = true;
+    private int nullMoveMinDepth = 3;
+    private int nullMoveReduction = 2;
+    /*One more ply of reduction for every this many plies of depth */
+    private int nullMoveDepthDivisor = 6;
+
+    /*Late move reductions: quiet moves late in the ordering are searched shallower first */
+    private boolean lateMoveReductionEnabled = true;
+    private int lateMoveMinDepth = 3;
+    /*Moves searched at full depth before the reductions start */
+    private int lateMoveFullDepthMoves = 3;
+    /*Reduction = base + ln(depth) * ln(move number) / divisor */
+    private double lateMoveBase = 0.75;
+    private double lateMoveDivisor = 2.25;
+
+    /*
+    Frontier pruning on the static evaluation, margins are indexed by the remaining depth and a depth
+    past the end of its margins is never pruned. Futility skips quiet moves that cannot lift the score
+    to alpha, reverse futility cuts a node already far above beta, razoring drops into quiescence
+    when the node is far below alpha.
+    */
+    private boolean futilityEnabled = true;
+    private int[] futilityMargins = {0, 200, 350, 500};
+    private boolean reverseFutilityEnabled = true;
+    private int[] reverseFutilityMargins = {0, 120, 240, 360};
+    private boolean razoringEnabled = true;
+    private int[] razorMargins = {0, 300, 500};
+
+    /*ProbCut: a capture that beats beta by the margin at a much shallower depth cuts the node */
+    private boolean probCutEnabled = true;
+    private int probCutMinDepth = 5;
+    private int probCutReduction = 4;
+    private int probCutMargin = 200;
+
+    /*Which moves are searched deeper than the rest */
+    private ExtensionPolicy extensionPolicy = ExtensionPolicy.defaults();
+
+    public static SearchParameters defaults() {
+        return new SearchParameters();
+    }
+
+    public BoardEvaluation getBoardEvaluation() {
+        return this.boardEvaluation;
+    }
+
+    public SearchParameters setBoardEvaluation(final BoardEvaluation boardEvaluation) {
+        this.boardEvaluation = boardEvaluation;
+        return this;
+    }
+
+    public boolean isNullMoveEnabled() {
+        return this.nullMoveEnabled;
+    }
+
+    public SearchParameters setNullMoveEnabled(final boolean nullMoveEnabled) {
+        this.nullMoveEnabled = nullMoveEnabled;
+        return this;
+    }
+
+    public int getNullMoveMinDepth() {
+        return this.nullMoveMinDepth;
+    }
+
+    public SearchParameters setNullMoveMinDepth(final int nullMoveMinDepth) {
+        this.nullMoveMinDepth = nullMoveMinDepth;
+        return this;
+    }
+
+    public int getNullMoveReduction() {
+        return this.nullMoveReduction;
+    }
+
+    public SearchParameters setNullMoveReduction(final int nullMoveReduction) {
+        this.nullMoveReduction = nullMoveReduction;
+        return this;
+    }
+
+    public int getNullMoveDepthDivisor() {
+        return this.nullMoveDepthDivisor;
+    }
+
+    public SearchParameters setNullMoveDepthDivisor(final int nullMoveDepthDivisor) {
+        this.nullMoveDepthDivisor = nullMoveDepthDivisor;
+        return this;
+    }
+
+    public boolean isLateMoveReductionEnabled() {
+        return this.lateMoveReductionEnabled;
+    }
+
+    public SearchParameters setLateMoveReductionEnabled(final boolean lateMoveReductionEnabled) {
+        this.lateMoveReductionEnabled = lateMoveReductionEnabled;
+        return this;
+    }
+
+    public int getLateMoveMinDepth() {
+        return this.lateMoveMinDepth;
+    }
+
+    public SearchParameters setLateMoveMinDepth(final int lateMoveMinDepth) {
+        this.lateMoveMinDepth = lateMoveMinDepth;
+        return this;
+    }
+
+    public int getLateMoveFullDepthMoves() {
+        return this.lateMoveFullDepthMoves;
+    }
+
+    public SearchParameters setLateMoveFullDepthMoves(final int lateMoveFullDepthMoves) {
+        this.lateMoveFullDepthMoves = lateMoveFullDepthMoves;
+        return this;
+    }
+
+    public double getLateMoveBase() {
+        return this.lateMoveBase;
+    }
+
+    public SearchParameters setLateMoveBase(final double lateMoveBase) {
+        this.lateMoveBase = lateMoveBase;
+        return this;
+    }
+
+    public double getLateMoveDivisor() {
+        return this.lateMoveDivisor;
+    }
+
+    public SearchParameters setLateMoveDivisor(final double lateMoveDivisor) {
+        this.lateMoveDivisor = lateMoveDivisor;
+        return this;
+    }
+
+    public boolean isFutilityEnabled() {
+        return this.futilityEnabled;
+    }
+
+    public SearchParameters setFutilityEnabled(final boolean futilityEnabled) {
+        this.futilityEnabled = futilityEnabled;
+        return this;
+    }
+
+    public SearchParameters setFutilityMargins(final int... futilityMargins) {
+        this.futilityMargins = futilityMargins.clone();
+        return this;
+    }
+
+    public boolean isReverseFutilityEnabled() {
+        return this.reverseFutilityEnabled;
+    }
+
+    public SearchParameters setReverseFutilityEnabled(final boolean reverseFutilityEnabled) {
+        this.reverseFutilityEnabled = reverseFutilityEnabled;
+        return this;
+    }
+
+    public SearchParameters setReverseFutilityMargins(final int... reverseFutilityMargins) {
+        this.reverseFutilityMargins = reverseFutilityMargins.clone();
+        return this;
+    }
+
+    public boolean isRazoringEnabled() {
+        return this.razoringEnabled;
+    }
+
+    public SearchParameters setRazoringEnabled(final boolean razoringEnabled) {
+        this.razoringEnabled = razoringEnabled;
+        return this;
+    }
+
+    public SearchParameters setRazorMargins(final int... razorMargins) {
+        this.razorMargins = razorMargins.clone();
+        return this;
+    }
+
+    public boolean isProbCutEnabled() {
+        return this.probCutEnabled;
+    }
+
+    public SearchParameters setProbCutEnabled(final boolean probCutEnabled) {
+        this.probCutEnabled = probCutEnabled;
+        return this;
+    }
+
+    public int getProbCutMinDepth() {
+        return this.probCutMinDepth;
+    }
+
+    public SearchParameters setProbCutMinDepth(final int probCutMinDepth) {
+        this.probCutMinDepth = probCutMinDepth;
+        return this;
+    }
+
+    public int getProbCutReduction() {
+        return this.probCutReduction;
+    }
+
+    public SearchParameters setProbCutReduction(final int probCutReduction) {
+        this.probCutReduction = probCutReduction;
+        return this;
+    }
+
+    public int getProbCutMargin() {
+        return this.probCutMargin;
+    }
+
+    public SearchParameters setProbCutMargin(final int probCutMargin) {
+        this.probCutMargin = probCutMargin;
+        return this;
+    }
+
+    public ExtensionPolicy getExtensionPolicy() {
+        return this.extensionPolicy;
+    }
+
+    public SearchParameters setExtensionPolicy(final ExtensionPolicy extensionPolicy) {
+        this.extensionPolicy = extensionPolicy;
+        return this;
+    }
+
+    /*Whether futility pruning applies at the depth */
+    boolean canPruneFutile(final int depth) {
+        return this.futilityEnabled && depth < this.futilityMargins.length;
+    }
+
+    int futilityMargin(final int depth) {
+        return this.futilityMargins[depth];
+    }
+
+    boolean canPruneReverseFutile(final int depth) {
+        return this.reverseFutilityEnabled && depth < this.reverseFutilityMargins.length;
+    }
+
+    int reverseFutilityMargin(final int depth) {
+        return this.reverseFutilityMargins[depth];
+    }
+
+    boolean canRazor(final int depth) {
+        return this.razoringEnabled && depth < this.razorMargins.length;
+    }
+
+    int razorMargin(final int depth) {
+        return this.razorMargins[depth];
+    }
+
+    /*Null move reduction at a depth */
+    int nullMoveReduction(final int depth) {
+        return this.nullMoveReduction + depth / Math.max(1, this.nullMoveDepthDivisor);
+    }
+
+    /*Late move reduction of the move with the index at a depth, never below zero */
+    int lateMoveReduction(final int depth, final int moveIndex) {
+        return (int) Math.max(0, this.lateMoveBase + Math.log(depth) * Math.log(moveIndex + 1) / this.lateMoveDivisor);
+    }
+
+}
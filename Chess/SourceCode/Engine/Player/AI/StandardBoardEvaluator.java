@@ -1,7 +1,11 @@
 package SourceCode.Engine.Player.AI;
 
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.BitMoveGenerator;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
 import SourceCode.Engine.Board.Board;
 import SourceCode.Engine.Pieces.Piece;
+import SourceCode.Engine.Pieces.Piece.PieceType;
 import SourceCode.Engine.Player.Player;
 
 public class StandardBoardEvaluator implements BoardEvaluation {
@@ -11,6 +15,8 @@ public class StandardBoardEvaluator implements BoardEvaluation {
     private static final int CHECKMATE_BONUS = 10000;
     private static final int DEPTH_BONUS = 100;
 
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
     @Override
     public int evaluate(final Board board, final int depth) {
         return scorePlayer(board, board.whitePlayer(), depth) - 
@@ -49,4 +55,33 @@ public class StandardBoardEvaluator implements BoardEvaluation {
         return player.isCastled() ? CASTLED_BONUS : 0;
     }
 
+    /*
+    Score a search position the same way as its Board: only the side to move can be in check,
+    so the check and checkmate bonuses go to the other side
+    */
+    @Override
+    public int evaluate(final BitBoard position, final int depth) {
+        final int sideToMove = position.getSideToMove();
+        final int sign = sideToMove == BitBoard.WHITE ? -1 : 1;
+        int score = pieceValue(position, BitBoard.WHITE) - pieceValue(position, BitBoard.BLACK) +
+                    BitMoveGenerator.countMoves(position, BitBoard.WHITE) - BitMoveGenerator.countMoves(position, BitBoard.BLACK);
+
+        if (position.isInCheck()) {
+            score += sign * CHECK_BONUS;
+            if (!LegalMoveGenerator.hasLegalMove(position)) {
+                score += sign * CHECKMATE_BONUS * depthBonus(depth);
+            }
+        }
+
+        return score;
+    }
+
+    private static int pieceValue(final BitBoard position, final int color) {
+        int pieceValueScore = 0;
+        for (int type = BitBoard.PAWN; type <= BitBoard.KING; ++type) {
+            pieceValueScore += Long.bitCount(position.getPieces(color, type)) * PIECE_TYPES[type].getPieceValue();
+        }
+        return pieceValueScore;
+    }
+
 }
@@ -0,0 +1,27 @@
+package SourceCode.Engine.Player.AI;
+
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.PieceSquareTables;
+import SourceCode.Engine.Board.Board;
+
+/*
+Material and piece-square evaluation tapered by the game phase. The position keeps every sum up to
+date as moves are made, so a leaf costs the same however many pieces are left. Checkmate and stalemate
+are left to the search, which scores a node without legal moves itself.
+*/
+public class TaperedBoardEvaluator implements BoardEvaluation {
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        return evaluate(BitBoard.fromBoard(board), depth);
+    }
+
+    @Override
+    public int evaluate(final BitBoard position, final int depth) {
+        final int middlegame = position.getMiddlegameScore(BitBoard.WHITE) - position.getMiddlegameScore(BitBoard.BLACK);
+        final int endgame = position.getEndgameScore(BitBoard.WHITE) - position.getEndgameScore(BitBoard.BLACK);
+        return position.getMaterial(BitBoard.WHITE) - position.getMaterial(BitBoard.BLACK) +
+               PieceSquareTables.taper(middlegame, endgame, position.getPhase());
+    }
+
+}
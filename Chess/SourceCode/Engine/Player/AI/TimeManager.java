@@ -0,0 +1,83 @@
+package SourceCode.Engine.Player.AI;
+
+/*
+Decide how long one search may run. The soft limit is half the time the move should take: an iteration
+started later would rarely finish, so none starts after it, nor when the last iteration suggests the next
+one cannot finish in time. The hard limit stops the search in the middle of an iteration, the move of
+the last completed depth is played then.
+*/
+public class TimeManager {
+
+    /*Left on the clock for the move to reach the board */
+    private static final long SAFETY_MARGIN = 30;
+    /*Moves the remaining time is assumed to last for when the clock has no move count */
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    /*The next iteration usually takes at least this many times the last one */
+    private static final int ITERATION_GROWTH = 2;
+
+    private final long softLimit;
+    private final long hardLimit;
+    private long startTime;
+
+    private TimeManager(final long softLimit, final long hardLimit) {
+        this.softLimit = softLimit;
+        this.hardLimit = hardLimit;
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /*No time limit, the search only stops at its depth */
+    public static TimeManager unlimited() {
+        return new TimeManager(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /*A fixed budget for every move */
+    public static TimeManager forMoveTime(final long moveTime) {
+        final long budget = Math.max(1, moveTime - SAFETY_MARGIN);
+        return new TimeManager(Math.max(1, budget / 2), budget);
+    }
+
+    /*A share of the game clock plus most of the increment, never more than a quarter of what is left */
+    public static TimeManager forClock(final long remainingTime, final long increment) {
+        return forClock(remainingTime, increment, DEFAULT_MOVES_TO_GO);
+    }
+
+    public static TimeManager forClock(final long remainingTime, final long increment, final int movesToGo) {
+        final long available = Math.max(1, remainingTime - SAFETY_MARGIN);
+        final long hardLimit = Math.max(1, Math.min(available, available / 4 + increment));
+        final long target = Math.min(hardLimit, available / Math.max(1, movesToGo) + increment * 3 / 4);
+        return new TimeManager(Math.max(1, target / 2), hardLimit);
+    }
+
+    public void start() {
+        this.startTime = System.currentTimeMillis();
+    }
+
+    public long getElapsedMillis() {
+        return System.currentTimeMillis() - this.startTime;
+    }
+
+    public boolean isUnlimited() {
+        return this.hardLimit == Long.MAX_VALUE;
+    }
+
+    /*Checked inside the search, past the hard limit the running iteration is abandoned */
+    public boolean isTimeUp() {
+        return !isUnlimited() && getElapsedMillis() >= this.hardLimit;
+    }
+
+    /*Checked between iterations, with the time the last completed iteration took */
+    public boolean canStartIteration(final long lastIterationMillis) {
+        if (isUnlimited()) return true;
+        final long elapsed = getElapsedMillis();
+        return elapsed < this.softLimit && elapsed + lastIterationMillis * ITERATION_GROWTH < this.hardLimit;
+    }
+
+    public long getSoftLimit() {
+        return this.softLimit;
+    }
+
+    public long getHardLimit() {
+        return this.hardLimit;
+    }
+
+}
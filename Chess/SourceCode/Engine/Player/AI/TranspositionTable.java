@@ -0,0 +1,153 @@
+package SourceCode.Engine.Player.AI;
+
+import java.util.Arrays;
+import SourceCode.Engine.BitBoard.BitMove;
+
+/*
+Fixed-size transposition table shared by the search threads without locks.
+Every entry takes two longs of one primitive array: the Zobrist key xor the data, then the data.
+A reader only trusts an entry whose two words xor back to its key, so an entry torn by two threads
+writing at once is simply a miss. The data word packs
+    bits  0 - 15  best move (BitMove)
+    bits 16 - 47  score
+    bits 48 - 55  depth
+    bits 56 - 57  bound type
+    bits 58 - 63  search generation
+A bucket holds two entries: the first keeps the deepest result of the current search,
+the second always takes the newest one.
+*/
+public class TranspositionTable {
+
+    public static final int DEFAULT_SIZE_MB = 16;
+
+    /*Bound types, zero is left for an empty entry */
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    /*Value of probe when the position is not in the table */
+    public static final long NO_ENTRY = 0L;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_LONGS = 2 * ENTRY_LONGS;
+    private static final int BUCKET_BYTES = BUCKET_LONGS * Long.BYTES;
+    /*Largest power of two buckets a Java array can hold */
+    private static final long MAX_BUCKETS = 1L << 28;
+
+    private final int sizeInMB;
+    private final long[] table;
+    private final long bucketMask;
+    private volatile int generation;
+
+    public TranspositionTable(final int sizeInMB) {
+        if (sizeInMB < 1) {
+            throw new IllegalArgumentException("Transposition table needs at least 1 MB");
+        }
+        this.sizeInMB = sizeInMB;
+        /*Round down to a power of two buckets so the key can be masked into an index */
+        final long buckets = Math.min(Long.highestOneBit(((long) sizeInMB << 20) / BUCKET_BYTES), MAX_BUCKETS);
+        this.table = new long[(int) buckets * BUCKET_LONGS];
+        this.bucketMask = this.table.length / BUCKET_LONGS - 1;
+        this.generation = 0;
+    }
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    /*Data word of the position, or NO_ENTRY */
+    public long probe(final long key) {
+        final int bucket = bucketIndex(key);
+        for (int index = bucket; index < bucket + BUCKET_LONGS; index += ENTRY_LONGS) {
+            final long data = this.table[index + 1];
+            if (data != NO_ENTRY && (this.table[index] ^ data) == key) {
+                return data;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key, final int depth, final int score, final int bound, final int move) {
+        final int bucket = bucketIndex(key);
+        final int generation = this.generation;
+        final long deepData = this.table[bucket + 1];
+        final boolean sameKey = deepData != NO_ENTRY && (this.table[bucket] ^ deepData) == key;
+
+        /*A hit without a move keeps the move found before for that position */
+        int bestMove = move;
+        if (bestMove == BitMove.NO_MOVE && sameKey) {
+            bestMove = getMove(deepData);
+        }
+        final long data = pack(depth, score, bound, bestMove, generation);
+
+        if (deepData == NO_ENTRY || sameKey || getGeneration(deepData) != generation || depth >= getDepth(deepData)) {
+            this.table[bucket] = key ^ data;
+            this.table[bucket + 1] = data;
+        } else {
+            this.table[bucket + ENTRY_LONGS] = key ^ data;
+            this.table[bucket + ENTRY_LONGS + 1] = data;
+        }
+    }
+
+    /*Start a new search, older entries lose their claim on the depth-preferred slot */
+    public void newSearch() {
+        this.generation = (this.generation + 1) & 0x3F;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.generation = 0;
+    }
+
+    public int getSizeInMB() {
+        return this.sizeInMB;
+    }
+
+    public int getSizeInEntries() {
+        return this.table.length / ENTRY_LONGS;
+    }
+
+    /*Filled entries per thousand, sampled over the first thousand buckets */
+    public int getHashFull() {
+        final int buckets = (int) Math.min(1000, this.bucketMask + 1);
+        int used = 0;
+        for (int i = 0; i < buckets; ++i) {
+            if (this.table[i * BUCKET_LONGS + 1] != NO_ENTRY) ++used;
+            if (this.table[i * BUCKET_LONGS + ENTRY_LONGS + 1] != NO_ENTRY) ++used;
+        }
+        return used * 1000 / (2 * buckets);
+    }
+
+    private int bucketIndex(final long key) {
+        return (int) (key & this.bucketMask) * BUCKET_LONGS;
+    }
+
+    private static long pack(final int depth, final int score, final int bound, final int move, final int generation) {
+        return (move & 0xFFFFL) |
+               ((score & 0xFFFFFFFFL) << 16) |
+               ((long) (Math.max(0, Math.min(depth, 0xFF))) << 48) |
+               ((long) bound << 56) |
+               ((long) generation << 58);
+    }
+
+    public static int getMove(final long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    public static int getScore(final long entry) {
+        return (int) (entry >>> 16);
+    }
+
+    public static int getDepth(final long entry) {
+        return (int) (entry >>> 48) & 0xFF;
+    }
+
+    public static int getBound(final long entry) {
+        return (int) (entry >>> 56) & 0x3;
+    }
+
+    private static int getGeneration(final long entry) {
+        return (int) (entry >>> 58) & 0x3F;
+    }
+
+}
@@ -13,8 +13,8 @@ import SourceCode.Engine.Pieces.Rook;
 
 public class BlackPlayer extends Player {
 
-    public BlackPlayer(final Board board, final Collection<Move> whiteAllLegalMoves, final Collection<Move> blackAllLegalMoves) {
-        super(board, whiteAllLegalMoves, blackAllLegalMoves);
+    public BlackPlayer(final Board board) {
+        super(board);
     }
 
     @Override
@@ -34,7 +34,7 @@ public class BlackPlayer extends Player {
 
     @Override
     protected Collection<Move> calculateKingCastle(final Collection<Move> playerLegalMoves,
-                                                   final Collection<Move> opponentLegalMoves) {
+                                                   final long opponentAttacks) {
         final List<Move> kingCastle = new ArrayList<>(); 
 
         if (this.playerKing.isFirstMove() && !this.isInCheck()) {
@@ -43,8 +43,8 @@ public class BlackPlayer extends Player {
                 final Tile rookTile = this.board.getTile(7);
 
                 if (rookTile.IsOccupiled() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(5, opponentLegalMoves).isEmpty() &&
-                        Player.calculateAttacksOnTile(6, opponentLegalMoves).isEmpty() &&
+                    if (!Player.isTileAttacked(5, opponentAttacks) &&
+                        !Player.isTileAttacked(6, opponentAttacks) &&
                         rookTile.getPiece().getPieceType().isRook()) {
                             kingCastle.add(new Move.KingSideCastleMove(this.board, this.playerKing, 6, 
                                                                        (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 5));
@@ -58,8 +58,8 @@ public class BlackPlayer extends Player {
                 final Tile rookTile = this.board.getTile(0);
 
                 if (rookTile.IsOccupiled() && rookTile.getPiece().isFirstMove() && 
-                    Player.calculateAttacksOnTile(2, opponentLegalMoves).isEmpty() &&
-                    Player.calculateAttacksOnTile(3, opponentLegalMoves).isEmpty() &&
+                    !Player.isTileAttacked(2, opponentAttacks) &&
+                    !Player.isTileAttacked(3, opponentAttacks) &&
                     rookTile.getPiece().getPieceType().isRook()) {
                         kingCastle.add(new Move.KingSideCastleMove(this.board, this.playerKing, 2, 
                                                                    (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
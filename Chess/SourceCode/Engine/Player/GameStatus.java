@@ -0,0 +1,68 @@
+package SourceCode.Engine.Player;
+
+/*State of the game for the player to move, found once per board */
+public enum GameStatus {
+
+    In_Play {
+        @Override
+        public boolean isCheck() {
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+    Check {
+        @Override
+        public boolean isCheck() {
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+    Checkmate {
+        @Override
+        public boolean isCheck() {
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    },
+    Stalemate {
+        @Override
+        public boolean isCheck() {
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    };
+
+    public abstract boolean isCheck();
+    public abstract boolean isGameOver();
+
+    public boolean isCheckmate() {
+        return this == Checkmate;
+    }
+
+    public boolean isStalemate() {
+        return this == Stalemate;
+    }
+
+    static GameStatus of(final boolean inCheck, final boolean hasEscapeMoves) {
+        if (hasEscapeMoves) {
+            return inCheck ? Check : In_Play;
+        }
+        return inCheck ? Checkmate : Stalemate;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import SourceCode.Engine.Color;
+import SourceCode.Engine.BitBoard.BitBoard;
+import SourceCode.Engine.BitBoard.LegalMoveGenerator;
 import SourceCode.Engine.Board.Board;
 import SourceCode.Engine.Board.Move;
 import SourceCode.Engine.Pieces.King;
@@ -15,15 +17,14 @@ public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> AllLegalMoves;
-    protected final boolean isInCheck;
+    /*Computed on first use, check and castling read the board's attack maps instead of the opponent's moves */
+    private volatile Collection<Move> AllLegalMoves;
+    /*Check, checkmate or stalemate, found once and shared by the GUI and the evaluations */
+    private volatile GameStatus gameStatus;
 
-    Player (final Board board, final Collection<Move> PlayerLegals, final Collection<Move> OpponentMoves) {
+    Player (final Board board) {
         this.board = board;
         this.playerKing = constructKing();
-        PlayerLegals.addAll(calculateKingCastle(PlayerLegals, OpponentMoves));
-        this.AllLegalMoves = Collections.unmodifiableCollection(PlayerLegals);
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePostition(), OpponentMoves).isEmpty();
     }
 
     public King getPlayerKing() {
@@ -31,37 +32,45 @@ public abstract class Player {
     }
 
     public Collection<Move> getLegalMoves() {
-        return this.AllLegalMoves;
+        Collection<Move> legalMoves = this.AllLegalMoves;
+        if (legalMoves == null) {
+            final Collection<Move> playerLegals = this.board.getPieceMoves(getPlayerColor());
+            final List<Move> allMoves = new ArrayList<>(playerLegals);
+            allMoves.addAll(calculateKingCastle(playerLegals, this.board.getAttackMap(getOpponentColor())));
+            legalMoves = Collections.unmodifiableList(allMoves);
+            this.AllLegalMoves = legalMoves;
+        }
+        return legalMoves;
     }
 
-    /*Check if the opponent can captures the piece on a specific position */
-    protected static Collection<Move> calculateAttacksOnTile(int piecePostition, Collection<Move> OpponentMoves) {
-        
-        final List<Move> attackMoves = new ArrayList<>();
-
-        for (final Move move: OpponentMoves) {
-            if (piecePostition == move.getDestinationCoordinate()) {
-                attackMoves.add(move);
-            }
-        }
-        
-        return Collections.unmodifiableList(attackMoves);
+    /*Check if the opponent attacks a specific position */
+    protected static boolean isTileAttacked(final int piecePostition, final long opponentAttacks) {
+        return (opponentAttacks & (1L << piecePostition)) != 0;
     }
 
     public boolean isMoveLegal(final Move move) {
-        return this.AllLegalMoves.contains(move);
+        return getLegalMoves().contains(move);
     }
 
     public boolean isInCheck() {
-        return this.isInCheck;
+        return this.board.isTileAttacked(this.playerKing.getPiecePostition(), getOpponentColor());
+    }
+
+    public GameStatus getGameStatus() {
+        GameStatus status = this.gameStatus;
+        if (status == null) {
+            status = GameStatus.of(isInCheck(), hasEscapeMoves());
+            this.gameStatus = status;
+        }
+        return status;
     }
 
     public boolean isInCheckmate() {
-        return this.isInCheck && !hasEscapeMoves();
+        return getGameStatus().isCheckmate();
     }
 
     public boolean isInStalemate() {
-        return !this.isInCheck && !hasEscapeMoves();
+        return getGameStatus().isStalemate();
     }
 
     public boolean isCastled() {
@@ -92,28 +101,24 @@ public abstract class Player {
         }
         /*Transit the board to the opponent */
         final Board transitionBoard = move.execute();
-        final Collection<Move> kingAttack = Player.calculateAttacksOnTile(transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePostition(), 
-                                transitionBoard.currentPlayer().getLegalMoves());
-        if (!kingAttack.isEmpty()) {
+        if (transitionBoard.currentPlayer().getOpponent().isInCheck()) {
             return new MoveTransition(this.board, move, MoveStatus.Leaves_Player_In_Check);
         }
         return new MoveTransition(transitionBoard, move, MoveStatus.Done);
     }
 
-    /*Check if the piece had an escaped move*/
+    /*Check if the piece had an escaped move, the legal generator answers without executing any move and stops at the first */
     public boolean hasEscapeMoves() {
-        
-        for (final Move move: this.AllLegalMoves) {
-            final MoveTransition transition = makeMove(move);
-            if (transition.getMoveStatus().isDone()) return true;
-        }
+        return LegalMoveGenerator.hasLegalMove(BitBoard.fromBoard(this.board, getPlayerColor()));
+    }
 
-        return false;
+    private Color getOpponentColor() {
+        return getPlayerColor().isWhite() ? Color.Black : Color.White;
     }
 
     public abstract Color getPlayerColor();
     public abstract Collection<Piece> getActivePieces();
     public abstract Player getOpponent(); 
-    protected abstract Collection<Move> calculateKingCastle(Collection<Move> playerLegalMoves, Collection<Move> opponentLegalMoves);
+    protected abstract Collection<Move> calculateKingCastle(Collection<Move> playerLegalMoves, long opponentAttacks);
 
 }
@@ -13,8 +13,8 @@ import SourceCode.Engine.Pieces.Rook;
 
 public class WhitePlayer extends Player {
 
-    public WhitePlayer(final Board board, final Collection<Move> whiteAllLegalMoves, final Collection<Move> blackAllLegalMoves) {
-        super(board, whiteAllLegalMoves, blackAllLegalMoves);
+    public WhitePlayer(final Board board) {
+        super(board);
     }
 
     @Override
@@ -35,7 +35,7 @@ public class WhitePlayer extends Player {
     /*White side castles move*/
     @Override
     protected Collection<Move> calculateKingCastle(final Collection<Move> playerLegalMoves,
-                                                   final Collection<Move> opponentLegalMoves) {
+                                                   final long opponentAttacks) {
 
         final List<Move> kingCastle = new ArrayList<>(); 
 
@@ -45,8 +45,8 @@ public class WhitePlayer extends Player {
                 final Tile rookTile = this.board.getTile(63);
 
                 if (rookTile.IsOccupiled() && rookTile.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacksOnTile(61, opponentLegalMoves).isEmpty() &&
-                        Player.calculateAttacksOnTile(62, opponentLegalMoves).isEmpty() &&
+                    if (!Player.isTileAttacked(61, opponentAttacks) &&
+                        !Player.isTileAttacked(62, opponentAttacks) &&
                         rookTile.getPiece().getPieceType().isRook()) {
                             kingCastle.add(new Move.KingSideCastleMove(this.board, this.playerKing, 62, 
                                                                        (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 61));
@@ -60,8 +60,8 @@ public class WhitePlayer extends Player {
                 final Tile rookTile = this.board.getTile(56);
 
                 if (rookTile.IsOccupiled() && rookTile.getPiece().isFirstMove() &&
-                    Player.calculateAttacksOnTile(59, opponentLegalMoves).isEmpty() &&
-                    Player.calculateAttacksOnTile(58, opponentLegalMoves).isEmpty() &&
+                    !Player.isTileAttacked(59, opponentAttacks) &&
+                    !Player.isTileAttacked(58, opponentAttacks) &&
                     rookTile.getPiece().getPieceType().isRook()) {
                        kingCastle.add(new Move.KingSideCastleMove(this.board, this.playerKing, 58, 
                                                                        (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
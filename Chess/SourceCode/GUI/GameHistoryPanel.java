@@ -9,6 +9,7 @@ import javax.swing.table.DefaultTableModel;
 
 import SourceCode.Engine.Board.Board;
 import SourceCode.Engine.Board.Move;
+import SourceCode.Engine.Player.GameStatus;
 import SourceCode.GUI.Table.MoveLog;
 
 public class GameHistoryPanel extends JPanel {
@@ -58,9 +59,10 @@ public class GameHistoryPanel extends JPanel {
     }
 
     public String calculateCheckAndCheckmateHash(final Board board) {
-        if (board.currentPlayer().isInCheckmate()) {
+        final GameStatus status = board.currentPlayer().getGameStatus();
+        if (status.isCheckmate()) {
             return "#";
-        } else if (board.currentPlayer().isInCheck()) {
+        } else if (status.isCheck()) {
             return "+";
         }
         return "";
@@ -7,17 +7,32 @@ import java.awt.event.ActionListener;
 
 import SourceCode.Engine.Color;
 import SourceCode.Engine.Player.Player;
+import SourceCode.Engine.Player.AI.AlphaBeta;
+import SourceCode.Engine.Player.AI.TranspositionTable;
 import SourceCode.GUI.Table.PlayerType;
+import SourceCode.GUI.Table.SearchType;
 
 public class GameSetup extends JDialog {
 
     private PlayerType whitePlayerType;
     private PlayerType blackPlayerType;
+    private SearchType searchType = SearchType.MINMAX;
     private JSpinner searchDepthSpinner;
+    private JSpinner hashSizeSpinner;
+    private JSpinner moveTimeSpinner;
+    private JSpinner threadSpinner;
     public int depthSetting = 4;
+    /*Time budget of one computer move in milliseconds, 0 searches to the full depth however long it takes.
+    Only Alpha-Beta keeps to it, the minmax searches always go to the full depth */
+    public int moveTimeSetting = 5000;
+    /*Search threads: more than one runs Alpha-Beta as Lazy SMP, Parallel Minmax uses them all */
+    public int threadSetting = 1;
 
     private static final String HUMAN_TEXT = "Human";
     private static final String COMPUTER_TEXT = "Computer";
+    private static final String MINMAX_TEXT = "Minmax";
+    private static final String ALPHA_BETA_TEXT = "Alpha-Beta";
+    private static final String PARALLEL_MINMAX_TEXT = "Parallel Minmax";
 
     GameSetup(final JFrame frame,
               final boolean modal) {
@@ -46,8 +61,34 @@ public class GameSetup extends JDialog {
         myPanel.add(blackHumanButton);
         myPanel.add(blackComputerButton);
 
+        final JRadioButton minmaxButton = new JRadioButton(MINMAX_TEXT);
+        final JRadioButton alphaBetaButton = new JRadioButton(ALPHA_BETA_TEXT);
+        final JRadioButton parallelMinmaxButton = new JRadioButton(PARALLEL_MINMAX_TEXT);
+        final ButtonGroup searchGroup = new ButtonGroup();
+        searchGroup.add(minmaxButton);
+        searchGroup.add(alphaBetaButton);
+        searchGroup.add(parallelMinmaxButton);
+        minmaxButton.setSelected(true);
+
         myPanel.add(new JLabel("Search"));
-        this.searchDepthSpinner = addLabeledSpinner(myPanel, "Search Depth", new SpinnerNumberModel(depthSetting, 0, Integer.MAX_VALUE, 1));
+        myPanel.add(minmaxButton);
+        myPanel.add(alphaBetaButton);
+        myPanel.add(parallelMinmaxButton);
+        this.searchDepthSpinner = addLabeledSpinner(myPanel, "Search Depth", new SpinnerNumberModel(depthSetting, 0, AlphaBeta.MAX_PLY - 1, 1));
+        this.moveTimeSpinner = addLabeledSpinner(myPanel, "Move Time (ms)", new SpinnerNumberModel(moveTimeSetting, 0, Integer.MAX_VALUE, 100));
+        this.threadSpinner = addLabeledSpinner(myPanel, "Search Threads", new SpinnerNumberModel(threadSetting, 1, 256, 1));
+        this.hashSizeSpinner = addLabeledSpinner(myPanel, "Hash Size (MB)", new SpinnerNumberModel(TranspositionTable.DEFAULT_SIZE_MB, 1, 4096, 1));
+
+        /*The move time only applies to Alpha-Beta, it is greyed out for the other searches */
+        final ActionListener searchListener = new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                moveTimeSpinner.setEnabled(alphaBetaButton.isSelected());
+            }
+        };
+        minmaxButton.addActionListener(searchListener);
+        alphaBetaButton.addActionListener(searchListener);
+        parallelMinmaxButton.addActionListener(searchListener);
+        this.moveTimeSpinner.setEnabled(alphaBetaButton.isSelected());
 
         final JButton cancelButton = new JButton("Cancel");
         final JButton okButton = new JButton("OK");
@@ -56,6 +97,11 @@ public class GameSetup extends JDialog {
             public void actionPerformed(ActionEvent e) {
                 whitePlayerType = whiteComputerButton.isSelected() ? PlayerType.COMPUTER : PlayerType.HUMAN;
                 blackPlayerType = blackComputerButton.isSelected() ? PlayerType.COMPUTER : PlayerType.HUMAN;
+                searchType = minmaxButton.isSelected() ? SearchType.MINMAX :
+                             parallelMinmaxButton.isSelected() ? SearchType.PARALLEL_MINMAX : SearchType.ALPHA_BETA;
+                depthSetting = getSearchDepth();
+                moveTimeSetting = getMoveTime();
+                threadSetting = getThreads();
                 GameSetup.this.setVisible(false);
             }
         });
@@ -106,7 +152,23 @@ public class GameSetup extends JDialog {
         return spinner;
     }
 
+    SearchType getSearchType() {
+        return this.searchType;
+    }
+
     int getSearchDepth() {
         return (Integer)this.searchDepthSpinner.getValue();
     }
+
+    int getMoveTime() {
+        return (Integer)this.moveTimeSpinner.getValue();
+    }
+
+    int getThreads() {
+        return (Integer)this.threadSpinner.getValue();
+    }
+
+    int getHashSize() {
+        return (Integer)this.hashSizeSpinner.getValue();
+    }
 }
\ No newline at end of file
@@ -8,8 +8,14 @@ import SourceCode.Engine.Board.BoardUtility;
 import SourceCode.Engine.Board.Move;
 import SourceCode.Engine.Board.Tile;
 import SourceCode.Engine.Pieces.Piece;
+import SourceCode.Engine.Player.GameStatus;
 import SourceCode.Engine.Player.MoveTransition;
+import SourceCode.Engine.Player.AI.AlphaBeta;
+import SourceCode.Engine.Player.AI.LazySMP;
 import SourceCode.Engine.Player.AI.Minmax;
+import SourceCode.Engine.Player.AI.ParallelMinmax;
+import SourceCode.Engine.Player.AI.TimeManager;
+import SourceCode.Engine.Player.AI.TranspositionTable;
 import SourceCode.Engine.Player.AI.MoveStrategy;
 
 import java.awt.*;
@@ -37,6 +43,8 @@ public class Table extends Observable {
     private final CapturedPiecePanel capturedPiecePanel;
     private final MoveLog moveLog;
     private final GameSetup gameSetup;
+    private TranspositionTable transpositionTable;
+    private SearchType lastSearchType;
 
     private static Dimension OUTER_FRAME_DIMENSION = new Dimension(600, 600);
     private static Dimension BOARD_PANEL_DIMENSION = new Dimension(400, 350);
@@ -96,6 +104,39 @@ public class Table extends Observable {
         return this.gameSetup;
     }
 
+    /*One table kept for every move of the game, rebuilt only when its size setting changes */
+    private TranspositionTable getTranspositionTable() {
+        final int sizeInMB = this.gameSetup.getHashSize();
+        if (this.transpositionTable == null || this.transpositionTable.getSizeInMB() != sizeInMB) {
+            this.transpositionTable = new TranspositionTable(sizeInMB);
+        }
+        return this.transpositionTable;
+    }
+
+    /*The search chosen in the setup, the two searches score their table entries differently so a switch starts it empty */
+    private MoveStrategy createMoveStrategy() {
+        final SearchType searchType = this.gameSetup.getSearchType();
+        final TranspositionTable transpositionTable = getTranspositionTable();
+        if (this.lastSearchType != null && this.lastSearchType != searchType) {
+            transpositionTable.clear();
+        }
+        this.lastSearchType = searchType;
+
+        if (searchType == SearchType.MINMAX) {
+            return new Minmax(this.gameSetup.depthSetting, transpositionTable);
+        }
+        if (searchType == SearchType.PARALLEL_MINMAX) {
+            return new ParallelMinmax(this.gameSetup.depthSetting, this.gameSetup.threadSetting);
+        }
+        /*The depth setting caps the iterative deepening, the move time bounds how long it runs */
+        final TimeManager timeManager = this.gameSetup.moveTimeSetting > 0 ? TimeManager.forMoveTime(this.gameSetup.moveTimeSetting)
+                                                                          : TimeManager.unlimited();
+        if (this.gameSetup.threadSetting > 1) {
+            return new LazySMP(this.gameSetup.depthSetting, transpositionTable, timeManager, this.gameSetup.threadSetting);
+        }
+        return new AlphaBeta(this.gameSetup.depthSetting, transpositionTable, timeManager);
+    }
+
     private Board getGameBoard() {
         return this.chessBoard;
     }
@@ -206,21 +247,21 @@ public class Table extends Observable {
     private static class TableGameAIWatcher implements Observer {
         @Override
         public void update(final Observable o, final Object arg) {
+            final GameStatus status = Table.get().getGameBoard().currentPlayer().getGameStatus();
             if (Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer()) &&
-                !Table.get().getGameBoard().currentPlayer().isInCheckmate() &&
-                !Table.get().getGameBoard().currentPlayer().isInStalemate()) {
+                !status.isGameOver()) {
                 System.out.println(Table.get().getGameBoard().currentPlayer() + " is set to AI, thinking....");
                 final AIThinkTank thinkTank = new AIThinkTank();
                 thinkTank.execute();
             }
 
-            if (Table.get().getGameBoard().currentPlayer().isInCheckmate()) {
+            if (status.isCheckmate()) {
                 JOptionPane.showMessageDialog(Table.get().getBoardPanel(),
                         "Game Over: Player " + Table.get().getGameBoard().currentPlayer() + " is in checkmate!", "Game Over",
                         JOptionPane.INFORMATION_MESSAGE);
             }
 
-            if (Table.get().getGameBoard().currentPlayer().isInStalemate()) {
+            if (status.isStalemate()) {
                 JOptionPane.showMessageDialog(Table.get().getBoardPanel(),
                         "Game Over: Player " + Table.get().getGameBoard().currentPlayer() + " is in stalemate!", "Game Over",
                         JOptionPane.INFORMATION_MESSAGE);
@@ -239,8 +280,8 @@ public class Table extends Observable {
 
         @Override
         protected Move doInBackground() throws Exception {
-            final MoveStrategy minmax = new Minmax(Table.get().getGameSetup().depthSetting);
-            final Move bestMove = minmax.execute(Table.get().getGameBoard());
+            final MoveStrategy moveStrategy = Table.get().createMoveStrategy();
+            final Move bestMove = moveStrategy.execute(Table.get().getGameBoard());
             return bestMove;
         }
 
@@ -530,4 +571,10 @@ public class Table extends Observable {
         HUMAN,
         COMPUTER
     }
+
+    public enum SearchType {
+        MINMAX,
+        ALPHA_BETA,
+        PARALLEL_MINMAX
+    }
 }